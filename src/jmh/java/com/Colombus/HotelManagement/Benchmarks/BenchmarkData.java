@@ -0,0 +1,94 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Models.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic hotels and users, so every run measures the same input
+final class BenchmarkData {
+    static final String[][] CITIES = {
+            {"Mumbai", "Maharashtra", "19.0760", "72.8777"}, {"Delhi", "Delhi", "28.6139", "77.2090"},
+            {"Bengaluru", "Karnataka", "12.9716", "77.5946"}, {"Hyderabad", "Telangana", "17.3850", "78.4867"},
+            {"Chennai", "Tamil Nadu", "13.0827", "80.2707"}, {"Kolkata", "West Bengal", "22.5726", "88.3639"},
+            {"Pune", "Maharashtra", "18.5204", "73.8567"}, {"Jaipur", "Rajasthan", "26.9124", "75.7873"},
+            {"Goa", "Goa", "15.4909", "73.8278"}, {"Udaipur", "Rajasthan", "24.5854", "73.7125"},
+            {"Kochi", "Kerala", "9.9312", "76.2673"}, {"Shimla", "Himachal Pradesh", "31.1048", "77.1734"}};
+    private static final String[] NAME_WORDS = {
+            "Grand", "Royal", "Palace", "Residency", "Inn", "Plaza", "Heritage", "Regency", "Sea View", "Comfort",
+            "Park", "Lake", "Garden", "Suites", "Tower", "Crown", "Orchid", "Sapphire", "Lotus", "Imperial"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Hotel> hotels(int count) {
+        Random random = new Random(42);
+        List<Hotel> hotels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] city = CITIES[skewedIndex(random, CITIES.length)];
+            Hotel hotel = new Hotel();
+            hotel.setId((long) i + 1);
+            hotel.setHotelName("Hotel " + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + i);
+            hotel.setEmail1("reservations" + i + "@example.com");
+            hotel.setAddress((random.nextInt(200) + 1) + ", MG Road, " + city[0]);
+            hotel.setMobilePhoneContact(String.valueOf(9000000000L + i));
+            hotel.setConcerningPersonName("Manager " + i);
+            hotel.setPreferred(random.nextInt(10) == 0);
+            hotel.setCity(city[0]);
+            hotel.setState(city[1]);
+            // Spread around the city centre so radius queries see varying distances
+            hotel.setLatitude(Double.parseDouble(city[2]) + (random.nextDouble() - 0.5) * 0.2);
+            hotel.setLongitude(Double.parseDouble(city[3]) + (random.nextDouble() - 0.5) * 0.2);
+            hotel.setVersion(0L);
+            hotel.setChangeVersion((long) i + 1);
+            hotels.add(hotel);
+        }
+        return hotels;
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = User.named("agent" + i);
+            user.setId((long) i + 1);
+            user.setEmail("agent" + i + "@example.com");
+            // Every fourth company name needs quoting
+            user.setCompanyName(i % 4 == 0 ? "Travels, \"Tours\" & Co " + i : "Travels " + i);
+            user.setConcerningPersonName("Agent " + i);
+            user.setContactNumber(String.valueOf(8000000000L + i));
+            user.setMobileNumber(String.valueOf(7000000000L + i));
+            user.setAddress(i + " Station Road");
+            user.setCity(CITIES[i % CITIES.length][0]);
+            user.setState(CITIES[i % CITIES.length][1]);
+            user.setRole("USER");
+            user.setApproved(i % 3 != 0);
+            users.add(user);
+        }
+        return users;
+    }
+
+    // The upload format read by HotelService.processCSVFile
+    static String hotelCsv(int rows) {
+        StringBuilder csv = new StringBuilder("hotelName,email1,email2,address,mobilePhoneContact,landlineContact,"
+                + "concerningPersonName,preferred,city,state,website\n");
+        for (Hotel hotel : hotels(rows)) {
+            csv.append(hotel.getHotelName()).append(',')
+                    .append(hotel.getEmail1()).append(",,")
+                    .append(hotel.getAddress().replace(",", " ")).append(',')
+                    .append(hotel.getMobilePhoneContact()).append(",,")
+                    .append(hotel.getConcerningPersonName()).append(',')
+                    .append(hotel.isPreferred()).append(',')
+                    .append(hotel.getCity()).append(',')
+                    .append(hotel.getState()).append(",https://example.com\n");
+        }
+        return csv.toString();
+    }
+
+    // Earlier cities are more common, like the real catalog
+    private static int skewedIndex(Random random, int size) {
+        return Math.min(size - 1, (int) (-Math.log(1 - random.nextDouble()) * size / 3));
+    }
+}
@@ -0,0 +1,109 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, run by the jmhDiff Gradle task. A benchmark counts as a regression when it is
+ * slower by more than the threshold and by more than the two scores' error margins combined.
+ * Exits with status 1 when any benchmark regressed, so it can gate a CI job.
+ *
+ * Arguments: --baseline=FILE --current=FILE [--threshold=10] (percent)
+ */
+public class BenchmarkDiff {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Map<String, Score> baseline = read(required(options, "baseline"));
+        Map<String, Score> current = read(required(options, "current"));
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", now.score, "new");
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100;
+            // Throughput modes are better when higher, time modes when lower
+            double slowdown = now.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(now.score - before.score) > now.error + before.error;
+            String verdict = "";
+            if (significant && slowdown > threshold) {
+                verdict = "  REGRESSION";
+                regressions++;
+            } else if (significant && slowdown < -threshold) {
+                verdict = "  improved";
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score, now.score, change, verdict);
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s %14.3f %14s %9s%n", name, baseline.get(name).score, "-", "removed");
+            }
+        }
+
+        System.out.printf("%d regression(s) over %.0f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Keyed by benchmark, parameters and mode, e.g. "HotelCsvParseBenchmark.parse(rows=100) avgt us/op"
+    private static Map<String, Score> read(String path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(new File(path))) {
+            String benchmark = result.path("benchmark").asText();
+            String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            List<String> params = new ArrayList<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.add(param.getKey() + "=" + param.getValue().asText());
+            }
+            if (!params.isEmpty()) {
+                name += "(" + String.join(",", params) + ")";
+            }
+            JsonNode metric = result.path("primaryMetric");
+            String mode = result.path("mode").asText();
+            String unit = metric.path("scoreUnit").asText();
+            // scoreError is NaN when there were too few iterations to estimate it
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(name + " " + mode + " " + unit,
+                    new Score(mode, metric.path("score").asDouble(), Double.isNaN(error) ? 0 : error));
+        }
+        return scores;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    private record Score(String mode, double score, double error) {
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
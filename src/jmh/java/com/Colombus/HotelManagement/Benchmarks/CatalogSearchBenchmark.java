@@ -0,0 +1,68 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Catalog.HotelGeoIndex;
+import com.Colombus.HotelManagement.Catalog.HotelSuggestIndex;
+import com.Colombus.HotelManagement.Catalog.NearbyHotel;
+import com.Colombus.HotelManagement.Catalog.Suggestion;
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// In-memory catalog searches, against a linear scan like the LIKE '%name%' query they replace
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSearchBenchmark {
+    @Param({"10000"})
+    int hotels;
+
+    private List<Hotel> catalog;
+    private HotelSuggestIndex suggestIndex;
+    private HotelGeoIndex geoIndex;
+
+    @Setup
+    public void setUp() {
+        catalog = BenchmarkData.hotels(hotels);
+        suggestIndex = new HotelSuggestIndex();
+        suggestIndex.rebuild(catalog);
+        geoIndex = new HotelGeoIndex(0.1);
+        geoIndex.rebuild(catalog);
+    }
+
+    @Benchmark
+    public List<Suggestion> suggestPrefix() {
+        return suggestIndex.suggest("pala", null, 10);
+    }
+
+    @Benchmark
+    public List<Suggestion> suggestWithTypo() {
+        return suggestIndex.suggest("Hydrabad", null, 10);
+    }
+
+    @Benchmark
+    public List<NearbyHotel> nearby10Km() {
+        return geoIndex.nearby(18.5204, 73.8567, 10, 20);
+    }
+
+    @Benchmark
+    public List<Hotel> linearNameScan() {
+        List<Hotel> matches = new ArrayList<>();
+        for (Hotel hotel : catalog) {
+            if (hotel.getHotelName().toLowerCase(Locale.ROOT).contains("pala")) {
+                matches.add(hotel);
+            }
+        }
+        return matches;
+    }
+}
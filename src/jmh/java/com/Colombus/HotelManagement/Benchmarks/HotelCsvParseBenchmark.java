@@ -0,0 +1,37 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Services.HotelCsvParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+// Parsing stage of the CSV hotel import, without the database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotelCsvParseBenchmark {
+    @Param({"100", "10000"})
+    int rows;
+
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkData.hotelCsv(rows);
+    }
+
+    @Benchmark
+    public HotelCsvParser.Result parse() throws IOException {
+        return HotelCsvParser.parse(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response serialization of GET /hotels/{id} and GET /hotels/all, with the ObjectMapper defaults Spring MVC uses
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotelJsonBenchmark {
+    @Param({"1000"})
+    int hotels;
+
+    private ObjectMapper objectMapper;
+    private Hotel hotel;
+    private List<Hotel> hotelList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        hotelList = BenchmarkData.hotels(hotels);
+        hotel = hotelList.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeHotel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hotel);
+    }
+
+    @Benchmark
+    public byte[] serializeHotelList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hotelList);
+    }
+}
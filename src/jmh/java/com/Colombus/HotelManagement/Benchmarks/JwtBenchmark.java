@@ -0,0 +1,53 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// Token work done on every login (generate) and every authenticated request (extract and validate)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    private JwtUtil jwtUtil;
+    private User user;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        user = BenchmarkData.users(1).get(0);
+        userDetails = org.springframework.security.core.userdetails.User.withUsername(user.getUserName())
+                .password("unused")
+                .authorities("ROLE_USER")
+                .build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractClaim() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,48 @@
+package com.Colombus.HotelManagement.Benchmarks;
+
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Services.UserCsvWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The travel agent CSV export (GET /auth/users/download-csv)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCsvBenchmark {
+    @Param({"1000"})
+    int users;
+
+    private List<User> userList;
+
+    @Setup
+    public void setUp() {
+        userList = BenchmarkData.users(users);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String escapePlainField() {
+        return UserCsvWriter.escapeCsvField("Travels 12");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String escapeQuotedField() {
+        return UserCsvWriter.escapeCsvField("Travels, \"Tours\" & Co 12");
+    }
+
+    @Benchmark
+    public String writeUsers() {
+        return UserCsvWriter.write(userList);
+    }
+}
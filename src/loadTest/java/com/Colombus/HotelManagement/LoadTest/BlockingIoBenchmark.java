@@ -0,0 +1,271 @@
+package com.Colombus.HotelManagement.LoadTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-model throughput benchmark of the blocking request path, run by the blockingIoBenchmark Gradle task.
+ * The application is started twice, once on Tomcat's platform-thread pool and once with VIRTUAL_THREADS=true,
+ * and driven by the same number of concurrent clients. Nine in ten requests are GET /hotels/all (JWT filter,
+ * user lookup, hotel query); one in ten is a login (user lookup and BCrypt).
+ * Reports throughput, p50/p99 latency, errors, the JVM's peak thread count and the number of pinned virtual
+ * thread stacks the JVM printed (-Djdk.tracePinnedThreads), which must be zero.
+ *
+ * The default H2 profile measures the application in isolation; blocking I/O only dominates against a networked
+ * database, e.g. --app-arg=--spring.profiles.active=default --app-arg=--spring.datasource.url=jdbc:mysql://...
+ *
+ * Arguments: --java=PATH --jar=PATH [--concurrency=400] [--warmup=10] [--duration=30] [--port=18082] [--app-arg=...]*
+ */
+public class BlockingIoBenchmark {
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+    private static final String USER_NAME = "loadtest";
+    private static final String PASSWORD = "loadtest-password";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final String java;
+    private final String jar;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int port;
+    private final List<String> appArgs;
+
+    BlockingIoBenchmark(Map<String, List<String>> options) {
+        this.java = single(options, "java", null);
+        this.jar = single(options, "jar", null);
+        this.concurrency = Integer.parseInt(single(options, "concurrency", "400"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(single(options, "warmup", "10")));
+        this.duration = Duration.ofSeconds(Long.parseLong(single(options, "duration", "30")));
+        this.port = Integer.parseInt(single(options, "port", "18082"));
+        this.appArgs = options.getOrDefault("app-arg", List.of());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.computeIfAbsent(arg.substring(2, eq), k -> new ArrayList<>()).add(arg.substring(eq + 1));
+        }
+        new BlockingIoBenchmark(options).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Blocking I/O benchmark: %d concurrent clients, %ds warm-up, %ds measured%n",
+                concurrency, warmup.toSeconds(), duration.toSeconds());
+        Result platform = measure("platform", false);
+        Result virtual = measure("virtual", true);
+
+        System.out.println();
+        System.out.printf("%-9s %10s %9s %9s %8s %13s %7s%n", "threads", "req/s", "p50 ms", "p99 ms", "errors", "peak threads", "pinned");
+        platform.print();
+        virtual.print();
+    }
+
+    private Result measure(String mode, boolean virtualThreads) throws Exception {
+        File log = File.createTempFile("blocking-io-" + mode, ".log");
+        List<String> command = new ArrayList<>(List.of(java, "-Djdk.tracePinnedThreads=short", "-jar", jar,
+                "--spring.profiles.active=h2", "--server.port=" + port));
+        command.addAll(appArgs);
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log);
+        builder.environment().put("VIRTUAL_THREADS", Boolean.toString(virtualThreads));
+        Process app = builder.start();
+        try {
+            awaitHealthy(app);
+            String token = prepareUser();
+
+            run(token, warmup);
+            Recorder recorder = run(token, duration);
+            double peakThreads = metric(token, "jvm.threads.peak");
+            long pinned = Files.readAllLines(log.toPath()).stream()
+                    .filter(line -> line.contains("<== monitors:"))
+                    .count();
+            return new Result(mode, recorder, duration, peakThreads, pinned);
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly().waitFor();
+            }
+            System.out.println(mode + " application log: " + log);
+        }
+    }
+
+    // Each client loops on its own virtual thread until the deadline
+    private Recorder run(String token, Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Future<Recorder>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                clients.add(executor.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    for (long n = offset; System.nanoTime() < deadline; n++) {
+                        HttpRequest request = n % 10 == 0 ? loginRequest() : hotelsRequest(token);
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            recorder.record(System.nanoTime() - start, status == 200);
+                        } catch (IOException e) {
+                            recorder.record(System.nanoTime() - start, false);
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+        }
+        Recorder total = new Recorder();
+        for (Future<Recorder> recorder : clients) {
+            total.merge(recorder.get());
+        }
+        return total;
+    }
+
+    // The first registered user becomes an approved ADMIN, so logins exercise the database and BCrypt
+    private String prepareUser() throws IOException, InterruptedException {
+        String body = "{\"companyName\":\"Load Test\",\"address\":\"n/a\",\"contactNumber\":\"0000000000\","
+                + "\"mobileNumber\":\"0000000000\",\"email\":\"loadtest@example.com\",\"userName\":\"" + USER_NAME + "\","
+                + "\"password\":\"" + PASSWORD + "\",\"concerningPersonName\":\"Load Test\",\"city\":\"Pune\",\"state\":\"Maharashtra\"}";
+        client.send(HttpRequest.newBuilder(uri("/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        HttpResponse<String> response = client.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        Matcher token = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !token.find()) {
+            throw new IllegalStateException("Login of " + USER_NAME + " failed with status " + response.statusCode()
+                    + " (the database must be empty or already contain this user as an approved user)");
+        }
+        return token.group(1);
+    }
+
+    private HttpRequest loginRequest() {
+        return HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userName\":\"" + USER_NAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private HttpRequest hotelsRequest(String token) {
+        return HttpRequest.newBuilder(uri("/hotels/all"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private double metric(String token, String name) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/actuator/metrics/" + name))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher value = METRIC_VALUE.matcher(response.body());
+        return response.statusCode() == 200 && value.find() ? Double.parseDouble(value.group(1)) : Double.NaN;
+    }
+
+    private void awaitHealthy(Process app) throws Exception {
+        long start = System.nanoTime();
+        HttpRequest health = HttpRequest.newBuilder(uri("/api/health")).timeout(Duration.ofSeconds(1)).GET().build();
+        while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + app.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException | HttpTimeoutException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Application did not become healthy within " + START_TIMEOUT);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String single(Map<String, List<String>> options, String name, String defaultValue) {
+        List<String> values = options.get(name);
+        if (values == null || values.isEmpty()) {
+            if (defaultValue == null) {
+                throw new IllegalArgumentException("Missing --" + name);
+            }
+            return defaultValue;
+        }
+        return values.get(values.size() - 1);
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String mode, Recorder recorder, Duration duration, double peakThreads, long pinned) {
+        void print() {
+            System.out.printf("%-9s %10.1f %9.1f %9.1f %8d %13.0f %7d%n", mode,
+                    recorder.count / (double) duration.toSeconds(),
+                    recorder.percentileMillis(50), recorder.percentileMillis(99),
+                    recorder.errors, peakThreads, pinned);
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package com.Colombus.HotelManagement.LoadTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Open-model load test of a mixed workload, run by the loadTest Gradle task.
+ * Starts the application on the embedded H2 profile, seeds it through the public API with N synthetic hotels and
+ * M travel agents (see SyntheticDataset; most agents are approved, the rest stay pending), then issues requests at
+ * a constant arrival rate regardless of how fast the application answers. Latency is measured from each request's
+ * scheduled start, so a stalled server shows up as queueing delay instead of being hidden by a slower client
+ * (coordinated omission).
+ *
+ * The mix covers agent logins, name/city/state searches, suggestions, nearby search, the full list, single hotel
+ * reads, new agent registrations with their admin approval, and small admin CSV imports. Reports throughput,
+ * p50/p99/p99.9 latency and errors per endpoint. Requests that could not start because --max-in-flight requests
+ * were outstanding are counted as errors.
+ *
+ * Arguments: --java=PATH --jar=PATH [--hotels=5000] [--agents=500] [--rate=200] [--warmup=10] [--duration=60]
+ *            [--max-in-flight=2000] [--seed=42] [--port=18083] [--app-arg=...]*
+ */
+public class MixedWorkloadLoadTest {
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int CSV_SEED_CHUNK = 1000;
+    private static final int CSV_IMPORT_ROWS = 20;
+    private static final int APPROVAL_BATCH = 500;
+    private static final int AGENT_TOKENS = 50;
+    private static final String BOUNDARY = "----loadtest-boundary";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final String java;
+    private final String jar;
+    private final int hotels;
+    private final int agents;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final int port;
+    private final List<String> appArgs;
+    private final SyntheticDataset dataset;
+
+    // Sequence numbers for rows created during the run, after the seeded ones
+    private final AtomicLong nextHotel = new AtomicLong();
+    private final AtomicLong nextAgent = new AtomicLong();
+    private final Queue<Long> pendingAgentIds = new ConcurrentLinkedQueue<>();
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+    private String adminToken;
+    private final List<String> agentTokens = new ArrayList<>();
+
+    MixedWorkloadLoadTest(Map<String, List<String>> options) {
+        this.java = single(options, "java", null);
+        this.jar = single(options, "jar", null);
+        this.hotels = Integer.parseInt(single(options, "hotels", "5000"));
+        this.agents = Integer.parseInt(single(options, "agents", "500"));
+        this.rate = Integer.parseInt(single(options, "rate", "200"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(single(options, "warmup", "10")));
+        this.duration = Duration.ofSeconds(Long.parseLong(single(options, "duration", "60")));
+        this.maxInFlight = Integer.parseInt(single(options, "max-in-flight", "2000"));
+        this.port = Integer.parseInt(single(options, "port", "18083"));
+        this.appArgs = options.getOrDefault("app-arg", List.of());
+        this.dataset = new SyntheticDataset(Long.parseLong(single(options, "seed", "42")));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.computeIfAbsent(arg.substring(2, eq), k -> new ArrayList<>()).add(arg.substring(eq + 1));
+        }
+        new MixedWorkloadLoadTest(options).run();
+    }
+
+    void run() throws Exception {
+        File log = File.createTempFile("mixed-workload", ".log");
+        List<String> command = new ArrayList<>(List.of(java, "-jar", jar,
+                "--spring.profiles.active=h2", "--server.port=" + port));
+        command.addAll(appArgs);
+        Process app = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            awaitHealthy(app);
+            seed();
+            defineMix();
+
+            System.out.printf("Warm-up: %d req/s for %ds%n", rate, warmup.toSeconds());
+            drive(warmup);
+            System.out.printf("Measuring: %d req/s for %ds%n", rate, duration.toSeconds());
+            Map<String, Recorder> recorders = drive(duration);
+            report(recorders);
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly().waitFor();
+            }
+            System.out.println("Application log: " + log);
+        }
+    }
+
+    private void seed() throws Exception {
+        long start = System.nanoTime();
+        adminToken = login("ADMIN1", "password");
+
+        for (int from = 0; from < hotels; from += CSV_SEED_CHUNK) {
+            int count = Math.min(CSV_SEED_CHUNK, hotels - from);
+            expectOk(client.send(csvImportRequest(dataset.hotelCsv(from, count)), HttpResponse.BodyHandlers.ofString()),
+                    "CSV import of hotels " + from + "-" + (from + count - 1));
+        }
+        nextHotel.set(hotels);
+
+        // Registrations hash passwords with BCrypt, so they run in parallel; bodies are generated up front
+        // to keep the dataset deterministic
+        List<String> bodies = new ArrayList<>(agents);
+        for (long seq = 0; seq < agents; seq++) {
+            bodies.add(dataset.agentJson(seq));
+        }
+        Long[] ids = new Long[agents];
+        Semaphore permits = new Semaphore(16);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < agents; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        HttpResponse<String> response = client.send(registerRequest(bodies.get(index)),
+                                HttpResponse.BodyHandlers.ofString());
+                        ids[index] = parseId(expectOk(response, "registration of " + SyntheticDataset.agentUserName(index)));
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                });
+            }
+        }
+        nextAgent.set(agents);
+
+        // Nine in ten agents are approved; the rest stay in the approval queue
+        List<Long> approve = new ArrayList<>();
+        for (int i = 0; i < agents; i++) {
+            if (ids[i] == null) {
+                throw new IllegalStateException("Registration of " + SyntheticDataset.agentUserName(i) + " failed");
+            }
+            if (i % 10 != 9) {
+                approve.add(ids[i]);
+            } else {
+                pendingAgentIds.add(ids[i]);
+            }
+        }
+        for (int from = 0; from < approve.size(); from += APPROVAL_BATCH) {
+            List<Long> batch = approve.subList(from, Math.min(from + APPROVAL_BATCH, approve.size()));
+            expectOk(client.send(approveRequest(batch), HttpResponse.BodyHandlers.ofString()), "approval of seeded agents");
+        }
+
+        // Searches and reads authenticate as a rotating set of approved agents
+        for (int i = 0; i < agents && agentTokens.size() < AGENT_TOKENS; i++) {
+            if (i % 10 != 9) {
+                agentTokens.add(login(SyntheticDataset.agentUserName(i), SyntheticDataset.AGENT_PASSWORD));
+            }
+        }
+        if (agentTokens.isEmpty()) {
+            agentTokens.add(adminToken);
+        }
+        System.out.printf("Seeded %d hotels and %d agents (%d approved) in %.1fs%n",
+                hotels, agents, approve.size(), (System.nanoTime() - start) / 1e9);
+    }
+
+    // Relative weights per endpoint: reads dominate, writes are a few percent
+    private void defineMix() {
+        add("POST /auth/login", 5, () -> {
+            long seq = approvedAgentSeq();
+            return loginRequest(SyntheticDataset.agentUserName(seq), SyntheticDataset.AGENT_PASSWORD);
+        });
+        add("GET /hotels/search", 20, () -> get("/hotels/search?name=" + encode(dataset.nameWord())));
+        add("GET /hotels/search/city", 15, () -> get("/hotels/search/city?city=" + encode(dataset.city()[0])));
+        add("GET /hotels/search/state", 5, () -> get("/hotels/search/state?state=" + encode(dataset.city()[1])));
+        add("GET /hotels/suggest", 15, () -> get("/hotels/suggest?prefix=" + encode(dataset.suggestPrefix())));
+        add("GET /hotels/nearby", 5, () -> {
+            String[] city = dataset.city();
+            return get("/hotels/nearby?lat=" + city[2] + "&lon=" + city[3] + "&radiusKm=" + (5 + dataset.nextInt(20)));
+        });
+        add("GET /hotels/{id}", 20, () -> get("/hotels/" + (1 + dataset.nextInt(Math.max(1, hotels)))));
+        add("GET /hotels/all", 2, () -> get("/hotels/all"));
+        add("POST /auth/register", 4, () -> registerRequest(dataset.agentJson(nextAgent.getAndIncrement())));
+        add("POST /auth/approve-user/{id}", 4, () -> {
+            Long id = pendingAgentIds.poll();
+            return id != null ? authorized("/auth/approve-user/" + id, adminToken).POST(HttpRequest.BodyPublishers.noBody()).build()
+                    : null;
+        });
+        add("GET /auth/pending-approvals", 2, () -> authorized("/auth/pending-approvals?size=50", adminToken).GET().build());
+        add("POST /hotels/upload-csv", 1, () -> csvImportRequest(
+                dataset.hotelCsv(nextHotel.getAndAdd(CSV_IMPORT_ROWS), CSV_IMPORT_ROWS)));
+    }
+
+    private void add(String endpoint, int weight, RequestFactory factory) {
+        operations.add(new Operation(endpoint, weight, factory));
+        totalWeight += weight;
+    }
+
+    /**
+     * Issues requests at the configured rate for the given length. The scheduling thread builds each request (so the
+     * synthetic data stays deterministic) and hands it to a virtual thread; it never waits for responses.
+     */
+    private Map<String, Recorder> drive(Duration length) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        operations.forEach(operation -> recorders.put(operation.endpoint(), new Recorder()));
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long scheduled = start + n * interval;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = pick();
+                HttpRequest request = operation.factory().create();
+                if (request == null) {
+                    // Nothing pending to approve: list the queue instead
+                    operation = operations.stream().filter(o -> o.endpoint().equals("GET /auth/pending-approvals")).findFirst().orElseThrow();
+                    request = operation.factory().create();
+                }
+                Recorder recorder = recorders.get(operation.endpoint());
+                if (!inFlight.tryAcquire()) {
+                    recorder.record(System.nanoTime() - scheduled, false);
+                    continue;
+                }
+                boolean registration = operation.endpoint().equals("POST /auth/register");
+                HttpRequest send = request;
+                executor.submit(() -> {
+                    try {
+                        HttpResponse<String> response = client.send(send, HttpResponse.BodyHandlers.ofString());
+                        boolean ok = response.statusCode() == 200;
+                        recorder.record(System.nanoTime() - scheduled, ok);
+                        if (ok && registration) {
+                            pendingAgentIds.add(parseId(response.body()));
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        recorder.record(System.nanoTime() - scheduled, false);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private Operation pick() {
+        int ticket = dataset.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private void report(Map<String, Recorder> recorders) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.println();
+        System.out.printf("%-32s %9s %9s %9s %9s %10s %8s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+        Recorder total = new Recorder();
+        recorders.forEach((endpoint, recorder) -> {
+            if (recorder.count() > 0) {
+                recorder.print(endpoint, seconds);
+                total.merge(recorder);
+            }
+        });
+        total.print("all", seconds);
+        System.out.printf("Target rate %d req/s, achieved %.1f req/s%n", rate, total.count() / seconds);
+    }
+
+    private String login(String userName, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(loginRequest(userName, password), HttpResponse.BodyHandlers.ofString());
+        Matcher token = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !token.find()) {
+            throw new IllegalStateException("Login of " + userName + " failed with status " + response.statusCode());
+        }
+        return token.group(1);
+    }
+
+    private HttpRequest loginRequest(String userName, String password) {
+        return HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userName\":\"" + userName + "\",\"password\":\"" + password + "\"}"))
+                .build();
+    }
+
+    private HttpRequest registerRequest(String body) {
+        return HttpRequest.newBuilder(uri("/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest approveRequest(List<Long> ids) {
+        String body = ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+        return authorized("/auth/approve-users", adminToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest csvImportRequest(String csv) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"hotels.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + csv + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        return authorized("/hotels/upload-csv", adminToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path, agentTokens.get(dataset.nextInt(agentTokens.size()))).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    // A seeded agent that was approved (every tenth one was left pending)
+    private long approvedAgentSeq() {
+        long seq = dataset.nextInt(Math.max(1, agents));
+        return seq % 10 == 9 ? seq - 1 : seq;
+    }
+
+    private static String expectOk(HttpResponse<String> response, String what) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(what + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static Long parseId(String body) {
+        Matcher id = ID.matcher(body);
+        if (!id.find()) {
+            throw new IllegalStateException("No id in response: " + body);
+        }
+        return Long.parseLong(id.group(1));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void awaitHealthy(Process app) throws Exception {
+        long start = System.nanoTime();
+        HttpRequest health = HttpRequest.newBuilder(uri("/api/health/ready")).timeout(Duration.ofSeconds(1)).GET().build();
+        while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + app.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException | HttpTimeoutException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Application did not become healthy within " + START_TIMEOUT);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String single(Map<String, List<String>> options, String name, String defaultValue) {
+        List<String> values = options.get(name);
+        if (values == null || values.isEmpty()) {
+            if (defaultValue == null) {
+                throw new IllegalArgumentException("Missing --" + name);
+            }
+            return defaultValue;
+        }
+        return values.get(values.size() - 1);
+    }
+
+    // Returns null when the operation has nothing to do right now
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create();
+    }
+
+    private record Operation(String endpoint, int weight, RequestFactory factory) {
+    }
+
+    // Latencies of one endpoint; written from many virtual threads
+    private static final class Recorder {
+        private final Lock lock = new ReentrantLock();
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            lock.lock();
+            try {
+                if (!ok) {
+                    errors++;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = nanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Only called once the run is over
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        void print(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-32s %9d %9.1f %9.1f %9.1f %10.1f %8d%n", endpoint, count, count / seconds,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 99), percentileMillis(sorted, 99.9), errors);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
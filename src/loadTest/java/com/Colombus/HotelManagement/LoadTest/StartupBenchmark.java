@@ -0,0 +1,190 @@
+package com.Colombus.HotelManagement.LoadTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cold-start benchmark, run by the startupBenchmark Gradle task.
+ * Starts the application repeatedly with the embedded H2 profile and measures, from process start,
+ * the time to the first 200 from /api/health and to the first successful /hotels/all (after logging in as ADMIN1).
+ * Modes: "jar" runs the boot jar as deployed today, "cds" runs the extracted jar with the AppCDS archive
+ * (and Spring AOT when the build was made with -PfastStartup).
+ *
+ * Arguments: --java=PATH --jar=PATH --cds-dir=DIR --aot=true|false [--runs=5] [--port=18081]
+ */
+public class StartupBenchmark {
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(250)).build();
+    private final Map<String, String> options;
+    private final int port;
+
+    StartupBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.port = Integer.parseInt(options.getOrDefault("port", "18081"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        new StartupBenchmark(options).run();
+    }
+
+    void run() throws Exception {
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        boolean aot = Boolean.parseBoolean(options.getOrDefault("aot", "false"));
+        File jar = new File(required("jar"));
+        File cdsDir = new File(required("cds-dir"));
+        File extractedJar = new File(new File(cdsDir, "application"), jar.getName());
+
+        List<String> plain = List.of(required("java"), "-jar", jar.getAbsolutePath());
+        // The archive only matches when the jar path is given exactly as in the cdsArchive training run
+        List<String> cds = new ArrayList<>(List.of(required("java"), "-XX:SharedArchiveFile=" + new File(cdsDir, "application.jsa").getAbsolutePath()));
+        if (aot) {
+            cds.add("-Dspring.aot.enabled=true");
+        }
+        cds.addAll(List.of("-jar", extractedJar.getAbsolutePath()));
+
+        System.out.printf("Startup benchmark: %d runs per mode, port %d%n", runs, port);
+        Result jarResult = measure("jar", plain, extractedJar.getParentFile(), runs);
+        Result cdsResult = measure(aot ? "cds+aot" : "cds", cds, extractedJar.getParentFile(), runs);
+
+        System.out.println();
+        System.out.printf("%-8s %22s %22s%n", "mode", "first /api/health ms", "first /hotels/all ms");
+        jarResult.print();
+        cdsResult.print();
+    }
+
+    private Result measure(String mode, List<String> javaCommand, File workingDir, int runs) throws Exception {
+        Result result = new Result(mode);
+        for (int i = 1; i <= runs; i++) {
+            List<String> command = new ArrayList<>(javaCommand);
+            command.addAll(List.of("--spring.profiles.active=h2", "--server.port=" + port));
+            Process app = new ProcessBuilder(command)
+                    .directory(workingDir)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            long start = System.nanoTime();
+            try {
+                awaitHealthy(app, start);
+                long healthy = System.nanoTime();
+                fetchHotels(login());
+                long hotels = System.nanoTime();
+                result.add(millis(healthy - start), millis(hotels - start));
+                System.out.printf("%-8s run %d: health %.0f ms, hotels %.0f ms%n",
+                        mode, i, millis(healthy - start), millis(hotels - start));
+            } finally {
+                app.destroy();
+                if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                    app.destroyForcibly().waitFor();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void awaitHealthy(Process app, long start) throws Exception {
+        HttpRequest health = HttpRequest.newBuilder(uri("/api/health")).timeout(Duration.ofSeconds(1)).GET().build();
+        while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + app.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException | HttpTimeoutException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application did not become healthy within " + START_TIMEOUT);
+    }
+
+    private String login() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userName\":\"ADMIN1\",\"password\":\"password\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher token = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !token.find()) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return token.group(1);
+    }
+
+    private void fetchHotels(String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/hotels/all"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("/hotels/all returned " + status);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String required(String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Result {
+        private final String mode;
+        private final List<Double> health = new ArrayList<>();
+        private final List<Double> hotels = new ArrayList<>();
+
+        Result(String mode) {
+            this.mode = mode;
+        }
+
+        void add(double healthMillis, double hotelsMillis) {
+            health.add(healthMillis);
+            hotels.add(hotelsMillis);
+        }
+
+        void print() {
+            System.out.printf("%-8s %22.0f %22.0f  (median)%n", mode, median(health), median(hotels));
+        }
+
+        private static double median(List<Double> values) {
+            List<Double> sorted = values.stream().sorted().toList();
+            int n = sorted.size();
+            return n % 2 == 1 ? sorted.get(n / 2) : (sorted.get(n / 2 - 1) + sorted.get(n / 2)) / 2;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.Colombus.HotelManagement.LoadTest;
+
+import java.util.Random;
+
+/**
+ * Deterministic synthetic hotels and travel agents for the load test. Cities follow a Zipf distribution
+ * (a handful of metros hold most hotels, as in the real catalog) and every value covered by a unique constraint
+ * (hotel name, agent user name, email, mobile and contact number) embeds a sequence number, so any number of
+ * rows can be generated without collisions. Sequence numbers must be unique per run, not just per call.
+ */
+final class SyntheticDataset {
+    static final String AGENT_PASSWORD = "load-test-agent";
+
+    // City, state, latitude, longitude; ordered by how many hotels a city gets
+    private static final String[][] CITIES = {
+            {"Mumbai", "Maharashtra", "19.0760", "72.8777"}, {"Delhi", "Delhi", "28.6139", "77.2090"},
+            {"Bengaluru", "Karnataka", "12.9716", "77.5946"}, {"Goa", "Goa", "15.4909", "73.8278"},
+            {"Jaipur", "Rajasthan", "26.9124", "75.7873"}, {"Hyderabad", "Telangana", "17.3850", "78.4867"},
+            {"Chennai", "Tamil Nadu", "13.0827", "80.2707"}, {"Kolkata", "West Bengal", "22.5726", "88.3639"},
+            {"Pune", "Maharashtra", "18.5204", "73.8567"}, {"Udaipur", "Rajasthan", "24.5854", "73.7125"},
+            {"Agra", "Uttar Pradesh", "27.1767", "78.0081"}, {"Kochi", "Kerala", "9.9312", "76.2673"},
+            {"Ahmedabad", "Gujarat", "23.0225", "72.5714"}, {"Shimla", "Himachal Pradesh", "31.1048", "77.1734"},
+            {"Varanasi", "Uttar Pradesh", "25.3176", "82.9739"}, {"Amritsar", "Punjab", "31.6340", "74.8723"},
+            {"Mysuru", "Karnataka", "12.2958", "76.6394"}, {"Rishikesh", "Uttarakhand", "30.0869", "78.2676"},
+            {"Darjeeling", "West Bengal", "27.0360", "88.2627"}, {"Jodhpur", "Rajasthan", "26.2389", "73.0243"},
+            {"Lucknow", "Uttar Pradesh", "26.8467", "80.9462"}, {"Chandigarh", "Chandigarh", "30.7333", "76.7794"},
+            {"Manali", "Himachal Pradesh", "32.2432", "77.1892"}, {"Puducherry", "Puducherry", "11.9416", "79.8083"},
+            {"Ooty", "Tamil Nadu", "11.4102", "76.6950"}, {"Madurai", "Tamil Nadu", "9.9252", "78.1198"},
+            {"Bhopal", "Madhya Pradesh", "23.2599", "77.4126"}, {"Indore", "Madhya Pradesh", "22.7196", "75.8577"},
+            {"Guwahati", "Assam", "26.1445", "91.7362"}, {"Srinagar", "Jammu and Kashmir", "34.0837", "74.7973"}};
+    private static final String[] NAME_WORDS = {
+            "Grand", "Royal", "Palace", "Residency", "Inn", "Plaza", "Heritage", "Regency", "Sea View", "Comfort",
+            "Park", "Lake", "Garden", "Suites", "Tower", "Crown", "Orchid", "Sapphire", "Lotus", "Imperial",
+            "Haveli", "Retreat", "Fort", "Meridian", "Classic", "Galaxy", "Paradise", "Sunrise", "Blue Bay", "Pearl"};
+    private static final String[] COMPANY_WORDS = {"Travels", "Tours", "Holidays", "Journeys", "Trips", "Getaways"};
+    private static final String[] STREETS = {"MG Road", "Station Road", "Beach Road", "Mall Road", "Ring Road", "Lake View Road"};
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final Random random;
+    private final double[] cumulativeWeights;
+
+    SyntheticDataset(long seed) {
+        this.random = new Random(seed);
+        this.cumulativeWeights = new double[CITIES.length];
+        double total = 0;
+        for (int i = 0; i < CITIES.length; i++) {
+            total += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < CITIES.length; i++) {
+            cumulativeWeights[i] /= total;
+        }
+    }
+
+    // Upload format of POST /hotels/upload-csv, one row per sequence number in [from, from + count)
+    String hotelCsv(long from, int count) {
+        StringBuilder csv = new StringBuilder("hotelName,email1,email2,address,mobilePhoneContact,landlineContact,"
+                + "concerningPersonName,preferred,city,state,website\n");
+        for (long seq = from; seq < from + count; seq++) {
+            String[] city = city();
+            String name = "Hotel " + word(NAME_WORDS) + " " + word(NAME_WORDS) + " " + city[0] + " " + seq;
+            csv.append(name).append(',')
+                    .append("stay").append(seq).append("@hotels.example.com").append(',')
+                    // Roughly a third of hotels list a second email or a landline
+                    .append(random.nextInt(3) == 0 ? "sales" + seq + "@hotels.example.com" : "").append(',')
+                    .append(random.nextInt(300) + 1).append(' ').append(word(STREETS)).append(' ').append(city[0]).append(',')
+                    .append(phone(9_000_000_000L, seq)).append(',')
+                    .append(random.nextInt(3) == 0 ? phone(2_000_000_000L, seq) : "").append(',')
+                    .append("Manager ").append(seq).append(',')
+                    .append(random.nextInt(10) == 0).append(',')
+                    .append(city[0]).append(',')
+                    .append(city[1]).append(',')
+                    .append("https://hotel").append(seq).append(".example.com\n");
+        }
+        return csv.toString();
+    }
+
+    // Body of POST /auth/register for the agent with this sequence number
+    String agentJson(long seq) {
+        String[] city = city();
+        return "{\"companyName\":\"" + city[0] + " " + word(COMPANY_WORDS) + " " + seq + "\","
+                + "\"address\":\"" + (random.nextInt(300) + 1) + " " + word(STREETS) + "\","
+                + "\"contactNumber\":\"" + phone(8_000_000_000L, seq) + "\","
+                + "\"mobileNumber\":\"" + phone(7_000_000_000L, seq) + "\","
+                + "\"email\":\"agent" + seq + "@agents.example.com\","
+                + "\"userName\":\"" + agentUserName(seq) + "\","
+                + "\"password\":\"" + AGENT_PASSWORD + "\","
+                + "\"concerningPersonName\":\"Agent " + seq + "\","
+                + "\"city\":\"" + city[0] + "\",\"state\":\"" + city[1] + "\"}";
+    }
+
+    static String agentUserName(long seq) {
+        return "agent" + seq;
+    }
+
+    // Search terms follow the same skew as the data, so popular cities are also searched most
+    String[] city() {
+        double u = random.nextDouble();
+        for (int i = 0; i < CITIES.length; i++) {
+            if (u <= cumulativeWeights[i]) {
+                return CITIES[i];
+            }
+        }
+        return CITIES[CITIES.length - 1];
+    }
+
+    String nameWord() {
+        return word(NAME_WORDS);
+    }
+
+    // A prefix of a hotel name word or city, with a typo one time in five
+    String suggestPrefix() {
+        String word = random.nextBoolean() ? word(NAME_WORDS) : city()[0];
+        String prefix = word.substring(0, Math.min(word.length(), 3 + random.nextInt(4)));
+        if (prefix.length() > 3 && random.nextInt(5) == 0) {
+            int i = 1 + random.nextInt(prefix.length() - 1);
+            prefix = prefix.substring(0, i) + prefix.substring(i + 1);
+        }
+        return prefix;
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    double nextDouble() {
+        return random.nextDouble();
+    }
+
+    private String word(String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    // Ten digits, unique per sequence number below one billion
+    private static String phone(long base, long seq) {
+        return String.valueOf(base + seq % 1_000_000_000L);
+    }
+}
@@ -0,0 +1,7 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.time.LocalDate;
+
+// The nights from `from` up to (not including) `to` with the same number of free rooms
+public record AvailabilityRun(LocalDate from, LocalDate to, int rooms) {
+}
@@ -0,0 +1,11 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.util.List;
+
+// A hotel with enough free rooms for a stay; rooms is the fewest free rooms of the room type over its nights
+public record AvailableHotel(Hotel hotel, List<RoomType> roomTypes) {
+    public record RoomType(String roomType, int rooms) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary file of the catalog's hotels for warm restarts. Layout: magic, format, write time, hotel count, one record
+ * per hotel (id, flags, ten length-prefixed UTF-8 strings, then coordinates and versions when present) and a CRC32
+ * of everything before it. Written to a temporary file and moved into place, so a crash never leaves a torn file;
+ * read through a memory map.
+ */
+final class CatalogSnapshot {
+    private static final int MAGIC = 0x48434154; // "HCAT"
+    private static final int FORMAT = 1;
+    private static final int PREFERRED = 1;
+    private static final int HAS_COORDINATES = 1 << 1;
+    private static final int HAS_VERSION = 1 << 2;
+    private static final int HAS_CHANGE_VERSION = 1 << 3;
+
+    private CatalogSnapshot() {
+    }
+
+    static void write(Path file, Collection<Hotel> hotels) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream raw = Files.newOutputStream(temporary)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(raw, crc), 64 * 1024));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(hotels.size());
+                for (Hotel hotel : hotels) {
+                    writeHotel(out, hotel);
+                }
+                out.flush();
+                // The checksum itself is outside the checked range
+                new DataOutputStream(raw).writeLong(crc.getValue());
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Throws IOException when the file is truncated, corrupt or of another format
+    static List<Hotel> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 28 || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - Long.BYTES));
+            if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("Not a catalog snapshot of format " + FORMAT);
+            }
+            buffer.getLong(); // Write time
+            int count = buffer.getInt();
+            List<Hotel> hotels = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                hotels.add(readHotel(buffer));
+            }
+            return hotels;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException and friends from a file that passed the checksum but not the layout
+            throw new IOException("Malformed snapshot", e);
+        }
+    }
+
+    private static void writeHotel(DataOutputStream out, Hotel hotel) throws IOException {
+        boolean hasCoordinates = hotel.getLatitude() != null && hotel.getLongitude() != null;
+        int flags = (hotel.isPreferred() ? PREFERRED : 0)
+                | (hasCoordinates ? HAS_COORDINATES : 0)
+                | (hotel.getVersion() != null ? HAS_VERSION : 0)
+                | (hotel.getChangeVersion() != null ? HAS_CHANGE_VERSION : 0);
+        out.writeLong(hotel.getId());
+        out.writeByte(flags);
+        writeString(out, hotel.getHotelName());
+        writeString(out, hotel.getEmail1());
+        writeString(out, hotel.getEmail2());
+        writeString(out, hotel.getAddress());
+        writeString(out, hotel.getMobilePhoneContact());
+        writeString(out, hotel.getLandlineContact());
+        writeString(out, hotel.getConcerningPersonName());
+        writeString(out, hotel.getWebsite());
+        writeString(out, hotel.getCity());
+        writeString(out, hotel.getState());
+        if (hasCoordinates) {
+            out.writeDouble(hotel.getLatitude());
+            out.writeDouble(hotel.getLongitude());
+        }
+        if (hotel.getVersion() != null) {
+            out.writeLong(hotel.getVersion());
+        }
+        if (hotel.getChangeVersion() != null) {
+            out.writeLong(hotel.getChangeVersion());
+        }
+    }
+
+    private static Hotel readHotel(ByteBuffer in) {
+        Hotel hotel = new Hotel();
+        hotel.setId(in.getLong());
+        int flags = in.get();
+        hotel.setPreferred((flags & PREFERRED) != 0);
+        hotel.setHotelName(readString(in));
+        hotel.setEmail1(readString(in));
+        hotel.setEmail2(readString(in));
+        hotel.setAddress(readString(in));
+        hotel.setMobilePhoneContact(readString(in));
+        hotel.setLandlineContact(readString(in));
+        hotel.setConcerningPersonName(readString(in));
+        hotel.setWebsite(readString(in));
+        hotel.setCity(readString(in));
+        hotel.setState(readString(in));
+        if ((flags & HAS_COORDINATES) != 0) {
+            hotel.setLatitude(in.getDouble());
+            hotel.setLongitude(in.getDouble());
+        }
+        if ((flags & HAS_VERSION) != 0) {
+            hotel.setVersion(in.getLong());
+        }
+        if ((flags & HAS_CHANGE_VERSION) != 0) {
+            hotel.setChangeVersion(in.getLong());
+        }
+        return hotel;
+    }
+
+    // Length -1 encodes null
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
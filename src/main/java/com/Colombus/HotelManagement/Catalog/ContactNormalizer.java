@@ -0,0 +1,61 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.util.Locale;
+
+// Canonical phone numbers and emails, so differently formatted copies of the same contact compare equal
+public final class ContactNormalizer {
+    private static final int MIN_PHONE_DIGITS = 6;
+
+    private ContactNormalizer() {
+    }
+
+    // Digits only, without the Indian country code or trunk prefix: "+91 98765-43210" and "098765 43210" both
+    // become "9876543210". Returns null for values too short to be a phone number.
+    public static String phone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (char c : phone.toCharArray()) {
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        String number = digits.toString();
+        if (number.startsWith("00")) {
+            number = number.substring(2);
+        }
+        if (number.startsWith("91") && number.length() > 10) {
+            number = number.substring(2);
+        }
+        int start = 0;
+        while (start < number.length() && number.charAt(start) == '0') {
+            start++;
+        }
+        number = number.substring(start);
+        return number.length() >= MIN_PHONE_DIGITS ? number : null;
+    }
+
+    // Lower case without "+tag"; Gmail also ignores dots in the local part
+    public static String email(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.lastIndexOf('@');
+        if (at <= 0) {
+            return normalized;
+        }
+        String local = normalized.substring(0, at);
+        String domain = normalized.substring(at + 1);
+        int plus = local.indexOf('+');
+        if (plus > 0) {
+            local = local.substring(0, plus);
+        }
+        if (domain.equals("gmail.com") || domain.equals("googlemail.com")) {
+            local = local.replace(".", "");
+            domain = "gmail.com";
+        }
+        return local + "@" + domain;
+    }
+}
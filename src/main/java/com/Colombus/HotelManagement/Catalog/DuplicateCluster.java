@@ -0,0 +1,8 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.util.List;
+
+public record DuplicateCluster(List<Hotel> hotels, List<DuplicateMatch> matches) {
+}
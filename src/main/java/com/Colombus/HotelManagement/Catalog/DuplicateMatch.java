@@ -0,0 +1,8 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.util.List;
+
+// Why two hotels look like the same property: similarities are Jaccard indexes of name and address shingles
+public record DuplicateMatch(Long hotelId, Long otherHotelId, double nameSimilarity, double addressSimilarity,
+                             List<String> sharedContacts) {
+}
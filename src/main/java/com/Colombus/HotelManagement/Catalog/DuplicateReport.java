@@ -0,0 +1,6 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.util.List;
+
+public record DuplicateReport(int hotelsScanned, long candidatePairs, long elapsedMillis, List<DuplicateCluster> clusters) {
+}
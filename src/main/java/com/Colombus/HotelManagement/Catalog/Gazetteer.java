@@ -0,0 +1,104 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline city-to-coordinates lookup from the CSV files bundled under resources/gazetteer.
+ * Coordinates are city centres, so every hotel of a city gets the same point.
+ */
+@Component
+public class Gazetteer {
+    private static final Logger logger = LoggerFactory.getLogger(Gazetteer.class);
+
+    private final Map<String, List<Place>> placesByCity = new HashMap<>();
+    private final Map<String, String> aliases = new HashMap<>();
+
+    public Gazetteer(@Value("${app.gazetteer.cities:classpath:gazetteer/in_cities.csv}") Resource cities,
+                     @Value("${app.gazetteer.aliases:classpath:gazetteer/city_aliases.csv}") Resource cityAliases) throws IOException {
+        for (String[] row : readRows(cities, 4)) {
+            GeoPoint point = new GeoPoint(Double.parseDouble(row[2]), Double.parseDouble(row[3]));
+            placesByCity.computeIfAbsent(normalize(row[0]), k -> new ArrayList<>()).add(new Place(normalize(row[1]), point));
+        }
+        for (String[] row : readRows(cityAliases, 2)) {
+            aliases.put(normalize(row[0]), normalize(row[1]));
+        }
+        logger.info("Loaded gazetteer with {} cities and {} aliases", placesByCity.size(), aliases.size());
+    }
+
+    // The state only disambiguates cities listed more than once; a misspelt state still matches a unique city
+    public Optional<GeoPoint> locate(String city, String state) {
+        List<Place> places = places(normalize(city));
+        if (places.isEmpty()) {
+            return Optional.empty();
+        }
+        String normalizedState = normalize(state);
+        for (Place place : places) {
+            if (place.state().equals(normalizedState)) {
+                return Optional.of(place.point());
+            }
+        }
+        return places.size() == 1 ? Optional.of(places.get(0).point()) : Optional.empty();
+    }
+
+    private List<Place> places(String city) {
+        if (city.isEmpty()) {
+            return List.of();
+        }
+        List<Place> places = placesByCity.get(aliases.getOrDefault(city, city));
+        if (places == null && city.endsWith("city") && city.length() > 4) {
+            return places(city.substring(0, city.length() - 4)); // "Mumbai City"
+        }
+        return places != null ? places : List.of();
+    }
+
+    // Case, spaces and punctuation are ignored: "New Delhi", "new-delhi" and "NEWDELHI" are the same city
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (char c : name.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static List<String[]> readRows(Resource resource, int columns) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine(); // Header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] row = line.split(",");
+                if (row.length < columns) {
+                    throw new IllegalStateException("Malformed gazetteer line in " + resource.getFilename() + ": " + line);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private record Place(String state, GeoPoint point) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Points bucketed into fixed latitude/longitude cells. A radius query only measures the points in the cells
+ * overlapping the radius's bounding box, so its cost depends on the density around the query point rather than
+ * on the total number of points.
+ */
+final class GeoGridIndex<T> {
+    private static final double KM_PER_DEGREE = 111.195;
+
+    private final double cellDegrees;
+    private final int columns;
+    private final Map<Long, Map<Long, Entry<T>>> cells = new HashMap<>();
+    private final Map<Long, Entry<T>> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    GeoGridIndex(double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 90 degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    void put(long id, GeoPoint point, T value) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            removeEntry(id);
+            if (point != null) {
+                Entry<T> entry = new Entry<>(id, point, value);
+                entries.put(id, entry);
+                cells.computeIfAbsent(cell(point.latitude(), point.longitude()), k -> new HashMap<>()).put(id, entry);
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    void remove(long id) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            removeEntry(id);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    void clear() {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            cells.clear();
+            entries.clear();
+        } finally {
+            write.unlock();
+        }
+    }
+
+    // Nearest first; points exactly on the radius are included
+    List<Neighbor<T>> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double cos = Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = cos > 1e-9 ? radiusKm / (KM_PER_DEGREE * cos) : 360;
+        int minRow = row(Math.max(latitude - latitudeDelta, -90));
+        int maxRow = row(Math.min(latitude + latitudeDelta, 90));
+        int minColumn;
+        int maxColumn;
+        if (longitudeDelta >= 180 || Math.abs(latitude) + latitudeDelta >= 90) {
+            minColumn = 0; // Around a pole every longitude is close
+            maxColumn = columns - 1;
+        } else {
+            minColumn = column(longitude - longitudeDelta);
+            maxColumn = column(longitude + longitudeDelta);
+            if (maxColumn < minColumn) {
+                maxColumn += columns; // Crosses the antimeridian
+            }
+        }
+
+        List<Neighbor<T>> found = new ArrayList<>();
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            long cellCount = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+            if (cellCount > cells.size()) {
+                // Large radius: scanning the occupied cells is cheaper than probing empty ones
+                for (Map<Long, Entry<T>> cell : cells.values()) {
+                    collect(cell, latitude, longitude, radiusKm, found);
+                }
+            } else {
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int column = minColumn; column <= maxColumn; column++) {
+                        Map<Long, Entry<T>> cell = cells.get(key(row, Math.floorMod(column, columns)));
+                        if (cell != null) {
+                            collect(cell, latitude, longitude, radiusKm, found);
+                        }
+                    }
+                }
+            }
+        } finally {
+            read.unlock();
+        }
+        found.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    int size() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return entries.size();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void collect(Map<Long, Entry<T>> cell, double latitude, double longitude, double radiusKm, List<Neighbor<T>> found) {
+        for (Entry<T> entry : cell.values()) {
+            double distance = entry.point().distanceKm(latitude, longitude);
+            if (distance <= radiusKm) {
+                found.add(new Neighbor<>(entry.value(), distance));
+            }
+        }
+    }
+
+    private void removeEntry(long id) {
+        Entry<T> previous = entries.remove(id);
+        if (previous != null) {
+            long key = cell(previous.point().latitude(), previous.point().longitude());
+            Map<Long, Entry<T>> cell = cells.get(key);
+            cell.remove(id);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cell(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private record Entry<T>(long id, GeoPoint point, T value) {
+    }
+
+    record Neighbor<T>(T value, double distanceKm) {
+    }
+}
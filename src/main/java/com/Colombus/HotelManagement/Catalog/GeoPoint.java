@@ -0,0 +1,15 @@
+package com.Colombus.HotelManagement.Catalog;
+
+public record GeoPoint(double latitude, double longitude) {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // Great-circle (haversine) distance
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        double dLat = Math.toRadians(otherLatitude - latitude);
+        double dLon = Math.toRadians(otherLongitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
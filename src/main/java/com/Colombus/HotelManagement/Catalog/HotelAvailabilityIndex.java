@@ -0,0 +1,147 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Room availability calendars by hotel, for GET /hotels/available. Hotels are grouped by city (ignoring case and
+ * extra spaces), so a query only reads the calendars of one city's hotels: per room type a binary search for the
+ * first night and a walk over the runs of the stay. The hotels come from HotelCatalog; the calendars are loaded and
+ * replaced by AvailabilityService and outlive a catalog rebuild. While the startup load runs, every hotel whose
+ * calendars are replaced or removed is marked, and the load leaves those hotels alone.
+ */
+@Component
+public class HotelAvailabilityIndex implements HotelIndex {
+    private static final Comparator<AvailableHotel> ORDER = Comparator
+            .comparing((AvailableHotel available) -> !available.hotel().isPreferred())
+            .thenComparing(available -> available.hotel().getHotelName(), String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<Long, Hotel> hotels = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> hotelIdsByCity = new ConcurrentHashMap<>();
+    // Hotel id -> room type -> calendar; the inner maps are immutable and replaced as a whole
+    private final Map<Long, Map<String, RoomCalendar>> calendars = new ConcurrentHashMap<>();
+    // Hotels written since the startup load began; null outside the load
+    private volatile Set<Long> writtenDuringLoad;
+
+    // Hotels of the city with at least `rooms` free rooms of a room type on every night of the stay, preferred first
+    public List<AvailableHotel> available(String city, LocalDate from, LocalDate to, int rooms) {
+        Set<Long> ids = hotelIdsByCity.get(cityKey(city));
+        if (ids == null) {
+            return List.of();
+        }
+        List<AvailableHotel> available = new ArrayList<>();
+        for (Long id : ids) {
+            Hotel hotel = hotels.get(id);
+            Map<String, RoomCalendar> byRoomType = calendars.get(id);
+            if (hotel == null || byRoomType == null) {
+                continue;
+            }
+            List<AvailableHotel.RoomType> roomTypes = new ArrayList<>();
+            byRoomType.forEach((roomType, calendar) -> {
+                int free = calendar.minRooms(from, to);
+                if (free >= rooms) {
+                    roomTypes.add(new AvailableHotel.RoomType(roomType, free));
+                }
+            });
+            if (!roomTypes.isEmpty()) {
+                roomTypes.sort(Comparator.comparing(AvailableHotel.RoomType::roomType));
+                available.add(new AvailableHotel(hotel, roomTypes));
+            }
+        }
+        available.sort(ORDER);
+        return available;
+    }
+
+    public Map<String, RoomCalendar> calendars(Long hotelId) {
+        return calendars.getOrDefault(hotelId, Map.of());
+    }
+
+    public void replaceCalendars(Long hotelId, Map<String, RoomCalendar> byRoomType) {
+        Map<String, RoomCalendar> replacement = byRoomType.isEmpty() ? null : Map.copyOf(byRoomType);
+        // Marked inside compute, so a load of the same hotel either runs before and is overwritten or sees the mark
+        calendars.compute(hotelId, (id, previous) -> {
+            markWritten(id);
+            return replacement;
+        });
+    }
+
+    public void beginLoad() {
+        writtenDuringLoad = ConcurrentHashMap.newKeySet();
+    }
+
+    // Calendars read by the startup load; ignored for a hotel written since the load began, which already has newer
+    // ones or had them removed
+    public void putLoaded(Long hotelId, Map<String, RoomCalendar> byRoomType) {
+        Map<String, RoomCalendar> loaded = byRoomType.isEmpty() ? null : Map.copyOf(byRoomType);
+        calendars.compute(hotelId, (id, previous) -> {
+            Set<Long> written = writtenDuringLoad;
+            return written != null && written.contains(id) ? previous : loaded;
+        });
+    }
+
+    public void endLoad() {
+        writtenDuringLoad = null;
+    }
+
+    public int size() {
+        return calendars.size();
+    }
+
+    @Override
+    public void rebuild(Collection<Hotel> all) {
+        hotels.clear();
+        hotelIdsByCity.clear();
+        all.forEach(this::put);
+    }
+
+    @Override
+    public void put(Hotel hotel) {
+        Hotel previous = hotels.put(hotel.getId(), hotel);
+        String city = cityKey(hotel.getCity());
+        if (previous != null && !cityKey(previous.getCity()).equals(city)) {
+            removeFromCity(previous);
+        }
+        hotelIdsByCity.computeIfAbsent(city, key -> ConcurrentHashMap.newKeySet()).add(hotel.getId());
+    }
+
+    // The database deletes the calendars together with the hotel
+    @Override
+    public void remove(Long hotelId) {
+        Hotel previous = hotels.remove(hotelId);
+        if (previous != null) {
+            removeFromCity(previous);
+        }
+        calendars.compute(hotelId, (id, calendar) -> {
+            markWritten(id);
+            return null;
+        });
+    }
+
+    private void markWritten(Long hotelId) {
+        Set<Long> written = writtenDuringLoad;
+        if (written != null) {
+            written.add(hotelId);
+        }
+    }
+
+    private void removeFromCity(Hotel hotel) {
+        hotelIdsByCity.computeIfPresent(cityKey(hotel.getCity()), (key, ids) -> {
+            ids.remove(hotel.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static String cityKey(String city) {
+        return city == null ? "" : city.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,347 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Repositories.HotelVersion;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory copy of all hotels, loaded once the application is ready and then kept current from the committed
+ * ChangeEvents of this instance. Feeds the HotelIndex beans and serves GET /hotels/all and /hotels/{id}. The Hotel
+ * objects are shared and must not be modified.
+ * Changes made by other instances arrive as ChangeEvents from ClusterChangePoller.
+ *
+ * With app.catalog.snapshot-file set (off by default), the catalog is also written to local disk periodically and on shutdown. A
+ * restart then serves from the snapshot at once and reconciles it with the database in the background, reloading
+ * only the hotels whose versions differ and dropping the ones that no longer exist.
+ */
+@Component
+public class HotelCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(HotelCatalog.class);
+    private static final int RECONCILE_BATCH = 500;
+    private static final Duration RECONCILE_RETRY = Duration.ofSeconds(30);
+
+    private final HotelRepository hotelRepository;
+    private final Gazetteer gazetteer;
+    private final List<HotelIndex> indexes;
+    private final Map<Long, Hotel> hotels = new ConcurrentHashMap<>();
+    // Change version of each deletion since the last load, so a late update event cannot bring the hotel back
+    private final Map<Long, Long> deletedVersions = new ConcurrentHashMap<>();
+    // Hotels as read from the snapshot, until reconciliation has checked them against the database
+    private Map<Long, Hotel> snapshotHotels = Map.of();
+    private final Lock lock = new ReentrantLock();
+    private final Path snapshotFile;
+    // Bumped on every change, so unchanged catalogs are not rewritten
+    private final AtomicLong modifications = new AtomicLong();
+    private volatile long savedModifications = -1;
+    private volatile boolean loaded;
+    private volatile boolean reconciled;
+
+    public HotelCatalog(HotelRepository hotelRepository, Gazetteer gazetteer, List<HotelIndex> indexes,
+                        @Value("${app.catalog.snapshot-file:}") String snapshotFile) {
+        this.hotelRepository = hotelRepository;
+        this.gazetteer = gazetteer;
+        this.indexes = indexes;
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    // Read while the context starts, so a snapshot is served before the web server takes its first request
+    @PostConstruct
+    public void loadSnapshotIfPresent() {
+        if (snapshotFile != null) {
+            loadSnapshot();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (loaded) {
+            Thread.ofVirtual().name("catalog-reconcile").start(this::reconcileUntilDone);
+        } else {
+            load();
+        }
+    }
+
+    // True once the catalog can serve, from the database or from a snapshot
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // True once the catalog reflects the database (after a full load or a finished reconciliation)
+    public boolean isReconciled() {
+        return reconciled;
+    }
+
+    public void load() {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            List<Hotel> all = hotelRepository.findAll();
+            hotels.clear();
+            deletedVersions.clear();
+            snapshotHotels = Map.of();
+            for (Hotel hotel : all) {
+                hotels.put(hotel.getId(), copyOf(hotel));
+            }
+            Collection<Hotel> snapshot = List.copyOf(hotels.values());
+            indexes.forEach(index -> index.rebuild(snapshot));
+            modifications.incrementAndGet();
+            loaded = true;
+            reconciled = true;
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Loaded {} hotels into the catalog in {} ms", hotels.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void loadSnapshot() {
+        long start = System.nanoTime();
+        List<Hotel> saved;
+        try {
+            saved = CatalogSnapshot.read(snapshotFile);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            logger.warn("Ignoring catalog snapshot {}: {}", snapshotFile, e.getMessage());
+            return;
+        }
+        lock.lock();
+        try {
+            hotels.clear();
+            deletedVersions.clear();
+            for (Hotel hotel : saved) {
+                hotels.put(hotel.getId(), hotel);
+            }
+            snapshotHotels = Map.copyOf(hotels);
+            Collection<Hotel> snapshot = List.copyOf(hotels.values());
+            indexes.forEach(index -> index.rebuild(snapshot));
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+        savedModifications = modifications.get();
+        logger.info("Loaded {} hotels into the catalog from {} in {} ms", saved.size(), snapshotFile,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void reconcileUntilDone() {
+        while (true) {
+            try {
+                reconcile();
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Catalog reconciliation failed, retrying in {}: {}", RECONCILE_RETRY, e.getMessage());
+            }
+            try {
+                Thread.sleep(RECONCILE_RETRY);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // Compares versions with one light query, then loads only the hotels that differ
+    void reconcile() {
+        long start = System.nanoTime();
+        Map<Long, HotelVersion> current = new HashMap<>();
+        for (HotelVersion version : hotelRepository.findAllVersions()) {
+            current.put(version.getId(), version);
+        }
+
+        List<Long> changed = new ArrayList<>();
+        for (HotelVersion version : current.values()) {
+            Hotel known = hotels.get(version.getId());
+            if (known == null || !Objects.equals(known.getVersion(), version.getVersion())
+                    || !Objects.equals(known.getChangeVersion(), version.getChangeVersion())) {
+                changed.add(version.getId());
+            }
+        }
+        // Hotels created on this instance after the versions were read are missing from them too; only snapshot
+        // hotels are candidates
+        List<Long> removed = snapshotHotels.keySet().stream().filter(id -> !current.containsKey(id)).toList();
+
+        for (int from = 0; from < changed.size(); from += RECONCILE_BATCH) {
+            List<Hotel> rows = hotelRepository.findAllById(changed.subList(from, Math.min(from + RECONCILE_BATCH, changed.size())));
+            lock.lock();
+            try {
+                // apply() skips rows older than what a change event has delivered in the meantime
+                rows.forEach(this::apply);
+            } finally {
+                lock.unlock();
+            }
+        }
+        int removedCount = 0;
+        lock.lock();
+        try {
+            for (Long id : removed) {
+                // Still the snapshot's copy: a change event since then carries a newer state than the versions read
+                if (hotels.remove(id, snapshotHotels.get(id))) {
+                    indexes.forEach(index -> index.remove(id));
+                    removedCount++;
+                }
+            }
+            snapshotHotels = Map.of();
+            modifications.incrementAndGet();
+            reconciled = true;
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Reconciled the catalog snapshot with the database in {} ms: {} hotels reloaded, {} removed",
+                (System.nanoTime() - start) / 1_000_000, changed.size(), removedCount);
+    }
+
+    // Written only when something changed since the last write, and never before the catalog was loaded
+    @Scheduled(fixedDelayString = "${app.catalog.snapshot-interval:5m}", initialDelayString = "${app.catalog.snapshot-interval:5m}")
+    public void saveSnapshot() {
+        if (snapshotFile == null || !loaded) {
+            return;
+        }
+        long version = modifications.get();
+        if (version == savedModifications) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Hotel> copy = List.copyOf(hotels.values());
+        try {
+            CatalogSnapshot.write(snapshotFile, copy);
+            savedModifications = version;
+            logger.info("Wrote {} hotels to the catalog snapshot {} in {} ms ({} bytes)", copy.size(), snapshotFile,
+                    (System.nanoTime() - start) / 1_000_000, Files.size(snapshotFile));
+        } catch (IOException e) {
+            logger.warn("Could not write the catalog snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    public Optional<Hotel> get(Long id) {
+        return Optional.ofNullable(hotels.get(id));
+    }
+
+    public Collection<Hotel> all() {
+        return Collections.unmodifiableCollection(hotels.values());
+    }
+
+    // Events from concurrent transactions may arrive out of order; the change version decides which one wins
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (!ChangeEvent.HOTELS.equals(event.channel())) {
+            return;
+        }
+        lock.lock();
+        try {
+            switch (event.type()) {
+                case ChangeEvent.CREATED, ChangeEvent.UPDATED -> apply(event.data());
+                case ChangeEvent.DELETED -> delete(event.data());
+                default -> { }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Object data) {
+        Hotel hotel;
+        if (data instanceof Hotel saved) {
+            if (isStale(saved.getId(), saved.getChangeVersion())) {
+                return;
+            }
+            hotel = copyOf(saved);
+        } else if (data instanceof Map<?, ?> fields) {
+            // A PATCH carries only the changed fields
+            Long id = asLong(fields.get("id"));
+            Hotel current = id != null ? hotels.get(id) : null;
+            if (current == null || isStale(id, asLong(fields.get("changeVersion")))) {
+                return;
+            }
+            hotel = copyOf(current);
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(hotel);
+            fields.forEach((name, value) -> wrapper.setPropertyValue((String) name, value));
+        } else {
+            return;
+        }
+        hotels.put(hotel.getId(), hotel);
+        indexes.forEach(index -> index.put(hotel));
+        modifications.incrementAndGet();
+    }
+
+    private void delete(Object data) {
+        if (!(data instanceof Map<?, ?> fields)) {
+            return;
+        }
+        Long id = asLong(fields.get("id"));
+        if (id == null) {
+            return;
+        }
+        Long changeVersion = asLong(fields.get("changeVersion"));
+        if (changeVersion != null) {
+            deletedVersions.merge(id, changeVersion, Math::max);
+        }
+        hotels.remove(id);
+        indexes.forEach(index -> index.remove(id));
+        modifications.incrementAndGet();
+    }
+
+    private boolean isStale(Long id, Long changeVersion) {
+        if (id == null || changeVersion == null) {
+            return false;
+        }
+        Long deletedVersion = deletedVersions.get(id);
+        if (deletedVersion != null && deletedVersion >= changeVersion) {
+            return true;
+        }
+        Hotel current = hotels.get(id);
+        return current != null && current.getChangeVersion() != null && current.getChangeVersion() > changeVersion;
+    }
+
+    // Detached copy, with coordinates for hotels saved before they were resolved on write
+    private Hotel copyOf(Hotel hotel) {
+        Hotel copy = new Hotel();
+        BeanUtils.copyProperties(hotel, copy);
+        if (copy.getLatitude() == null || copy.getLongitude() == null) {
+            gazetteer.locate(copy.getCity(), copy.getState()).ifPresent(point -> {
+                copy.setLatitude(point.latitude());
+                copy.setLongitude(point.longitude());
+            });
+        }
+        return copy;
+    }
+
+    private static Long asLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,431 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds hotels that are probably the same property entered twice, for GET /hotels/duplicates and the duplicate
+ * check of CSV imports. Candidates come from two kinds of buckets instead of comparing every pair:
+ * hotels sharing a normalized phone number or email, and hotels whose name MinHash signatures agree on a whole
+ * band (locality-sensitive hashing: 32 bands of 4 hashes, so names with a Jaccard similarity above about 0.4
+ * are likely to share a band). Candidates are then confirmed by their actual name and address similarity.
+ */
+@Component
+public class HotelDuplicateIndex implements HotelIndex {
+    private static final Logger logger = LoggerFactory.getLogger(HotelDuplicateIndex.class);
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final long[] SEEDS = seeds(BANDS * ROWS);
+    // Buckets this large are a generic value (a placeholder phone, a chain name), not evidence of a duplicate
+    private static final int MAX_BUCKET_SIZE = 100;
+    private static final double NAME_THRESHOLD = 0.5;
+    private static final double ADDRESS_THRESHOLD = 0.5;
+    private static final Set<String> NAME_STOP_WORDS = Set.of(
+            "hotel", "hotels", "the", "and", "of", "by", "a", "an", "pvt", "private", "ltd", "limited");
+
+    private final Map<Long, Fingerprint> fingerprints = new HashMap<>();
+    private final Buckets<Long> bandBuckets = new Buckets<>();
+    private final Buckets<String> contactBuckets = new Buckets<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DuplicateReport findDuplicates() {
+        long start = System.nanoTime();
+        Set<Pair> candidates = new HashSet<>();
+        List<DuplicateMatch> matches = new ArrayList<>();
+        Map<Long, Long> parents = new HashMap<>();
+        Map<Long, Hotel> hotels = new HashMap<>();
+        int scanned;
+        int oversizedBuckets = 0;
+
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            scanned = fingerprints.size();
+            List<Set<Long>> buckets = new ArrayList<>(contactBuckets.groups());
+            buckets.addAll(bandBuckets.groups());
+            for (Set<Long> bucket : buckets) {
+                if (bucket.size() > MAX_BUCKET_SIZE) {
+                    oversizedBuckets++;
+                    continue;
+                }
+                Long[] ids = bucket.toArray(new Long[0]);
+                for (int i = 0; i < ids.length; i++) {
+                    for (int j = i + 1; j < ids.length; j++) {
+                        Pair pair = Pair.of(ids[i], ids[j]);
+                        if (!candidates.add(pair)) {
+                            continue;
+                        }
+                        Fingerprint a = fingerprints.get(pair.first());
+                        Fingerprint b = fingerprints.get(pair.second());
+                        DuplicateMatch match = compare(a, b);
+                        if (match != null) {
+                            matches.add(match);
+                            union(parents, pair.first(), pair.second());
+                            hotels.put(a.hotel().getId(), a.hotel());
+                            hotels.put(b.hotel().getId(), b.hotel());
+                        }
+                    }
+                }
+            }
+        } finally {
+            read.unlock();
+        }
+
+        Map<Long, List<Hotel>> clusterHotels = new HashMap<>();
+        hotels.values().stream()
+                .sorted(Comparator.comparing(Hotel::getId))
+                .forEach(hotel -> clusterHotels.computeIfAbsent(find(parents, hotel.getId()), k -> new ArrayList<>()).add(hotel));
+        Map<Long, List<DuplicateMatch>> clusterMatches = new HashMap<>();
+        for (DuplicateMatch match : matches) {
+            clusterMatches.computeIfAbsent(find(parents, match.hotelId()), k -> new ArrayList<>()).add(match);
+        }
+        List<DuplicateCluster> clusters = clusterHotels.entrySet().stream()
+                .map(entry -> new DuplicateCluster(entry.getValue(), clusterMatches.get(entry.getKey())))
+                .sorted(Comparator.comparing((DuplicateCluster cluster) -> -cluster.hotels().size())
+                        .thenComparing(cluster -> cluster.hotels().get(0).getId()))
+                .toList();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (oversizedBuckets > 0) {
+            logger.info("Skipped {} oversized duplicate buckets", oversizedBuckets);
+        }
+        logger.info("Duplicate scan of {} hotels compared {} candidate pairs and found {} clusters in {} ms",
+                scanned, candidates.size(), clusters.size(), elapsedMillis);
+        return new DuplicateReport(scanned, candidates.size(), elapsedMillis, clusters);
+    }
+
+    // Indexed hotels that look like the same property as the given one (which need not be saved), best first
+    public List<DuplicateMatch> findMatches(Hotel hotel) {
+        Fingerprint candidate = fingerprint(hotel);
+        Set<Long> ids = new LinkedHashSet<>();
+        List<DuplicateMatch> matches = new ArrayList<>();
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            for (String contact : candidate.contacts()) {
+                addBucket(ids, contactBuckets.get(contact));
+            }
+            for (long band : candidate.bands()) {
+                addBucket(ids, bandBuckets.get(band));
+            }
+            ids.remove(hotel.getId());
+            for (Long id : ids) {
+                DuplicateMatch match = compare(candidate, fingerprints.get(id));
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+        } finally {
+            read.unlock();
+        }
+        matches.sort(Comparator.comparingInt((DuplicateMatch match) -> -match.sharedContacts().size())
+                .thenComparing(match -> -match.nameSimilarity()));
+        return matches;
+    }
+
+    @Override
+    public void rebuild(Collection<Hotel> hotels) {
+        List<Fingerprint> computed = hotels.stream().map(HotelDuplicateIndex::fingerprint).toList();
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            fingerprints.clear();
+            bandBuckets.clear();
+            contactBuckets.clear();
+            computed.forEach(this::add);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void put(Hotel hotel) {
+        Fingerprint fingerprint = fingerprint(hotel);
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            removeFingerprint(hotel.getId());
+            add(fingerprint);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            removeFingerprint(hotelId);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private void add(Fingerprint fingerprint) {
+        Long id = fingerprint.hotel().getId();
+        fingerprints.put(id, fingerprint);
+        for (String contact : fingerprint.contacts()) {
+            contactBuckets.add(contact, id);
+        }
+        for (long band : fingerprint.bands()) {
+            bandBuckets.add(band, id);
+        }
+    }
+
+    private void removeFingerprint(Long id) {
+        Fingerprint previous = fingerprints.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String contact : previous.contacts()) {
+            contactBuckets.remove(contact, id);
+        }
+        for (long band : previous.bands()) {
+            bandBuckets.remove(band, id);
+        }
+    }
+
+    private static void addBucket(Set<Long> ids, Collection<Long> bucket) {
+        if (bucket.size() <= MAX_BUCKET_SIZE) {
+            ids.addAll(bucket);
+        }
+    }
+
+    // A shared contact is enough; otherwise the names must be similar and so must the city or the address
+    private static DuplicateMatch compare(Fingerprint a, Fingerprint b) {
+        List<String> sharedContacts = new ArrayList<>();
+        for (String contact : a.contacts()) {
+            if (b.contacts().contains(contact)) {
+                sharedContacts.add(contact.substring(contact.indexOf(':') + 1));
+            }
+        }
+        double nameSimilarity = jaccard(a.nameShingles(), b.nameShingles());
+        double addressSimilarity = jaccard(a.addressTokens(), b.addressTokens());
+        boolean sameCity = !a.city().isEmpty() && a.city().equals(b.city());
+        if (sharedContacts.isEmpty()
+                && !(nameSimilarity >= NAME_THRESHOLD && (sameCity || addressSimilarity >= ADDRESS_THRESHOLD))) {
+            return null;
+        }
+        return new DuplicateMatch(a.hotel().getId(), b.hotel().getId(), round(nameSimilarity), round(addressSimilarity), sharedContacts);
+    }
+
+    private static Fingerprint fingerprint(Hotel hotel) {
+        String city = HotelSuggestIndex.normalize(hotel.getCity());
+        String state = HotelSuggestIndex.normalize(hotel.getState());
+
+        // "Hotel Taj Palace, Delhi" and "Taj Palace" both reduce to "taj palace"
+        List<String> nameWords = new ArrayList<>();
+        for (String word : HotelSuggestIndex.normalize(hotel.getHotelName()).split(" ")) {
+            if (!word.isEmpty() && !NAME_STOP_WORDS.contains(word) && !word.equals(city) && !word.equals(state)) {
+                nameWords.add(word);
+            }
+        }
+        long[] nameShingles = shingles(String.join(" ", nameWords));
+        long[] addressTokens = Arrays.stream(HotelSuggestIndex.normalize(hotel.getAddress()).split(" "))
+                .filter(word -> !word.isEmpty())
+                .mapToLong(word -> mix(word.hashCode()))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        Set<String> contacts = new LinkedHashSet<>();
+        addContact(contacts, "phone:", ContactNormalizer.phone(hotel.getMobilePhoneContact()));
+        addContact(contacts, "phone:", ContactNormalizer.phone(hotel.getLandlineContact()));
+        addContact(contacts, "email:", ContactNormalizer.email(hotel.getEmail1()));
+        addContact(contacts, "email:", ContactNormalizer.email(hotel.getEmail2()));
+
+        return new Fingerprint(hotel, city, nameShingles, addressTokens, contacts, bands(nameShingles));
+    }
+
+    private static void addContact(Set<String> contacts, String kind, String value) {
+        if (value != null) {
+            contacts.add(kind + value);
+        }
+    }
+
+    // Character trigrams, hashed, sorted and distinct
+    private static long[] shingles(String text) {
+        if (text.isEmpty()) {
+            return new long[0];
+        }
+        String padded = " " + text + " ";
+        long[] shingles = new long[Math.max(1, padded.length() - 2)];
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            shingles[i] = mix(padded.substring(i, i + 3).hashCode());
+        }
+        return Arrays.stream(shingles).distinct().sorted().toArray();
+    }
+
+    // One key per band of the MinHash signature; two hotels share a key when their band rows all agree
+    private static long[] bands(long[] shingles) {
+        if (shingles.length == 0) {
+            return new long[0];
+        }
+        long[] bands = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                long seed = SEEDS[band * ROWS + row];
+                long min = Long.MAX_VALUE;
+                for (long shingle : shingles) {
+                    min = Math.min(min, mix(shingle ^ seed));
+                }
+                key = mix(key * 31 + min);
+            }
+            bands[band] = key;
+        }
+        return bands;
+    }
+
+    private static double jaccard(long[] a, long[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int common = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return common / (double) (a.length + b.length - common);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    private static long[] seeds(int count) {
+        long[] seeds = new long[count];
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < count; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            seeds[i] = mix(state);
+        }
+        return seeds;
+    }
+
+    private static void union(Map<Long, Long> parents, Long a, Long b) {
+        Long rootA = find(parents, a);
+        Long rootB = find(parents, b);
+        if (!rootA.equals(rootB)) {
+            parents.put(Math.max(rootA, rootB), Math.min(rootA, rootB));
+        }
+    }
+
+    private static Long find(Map<Long, Long> parents, Long id) {
+        Long root = id;
+        for (Long parent = parents.get(root); parent != null; parent = parents.get(root)) {
+            root = parent;
+        }
+        // Path compression
+        for (Long current = id; !current.equals(root); ) {
+            Long next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    // Key to hotel ids. Nearly every band key belongs to a single hotel, which is stored without a set.
+    private static final class Buckets<K> {
+        private final Map<K, Object> buckets = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        void add(K key, Long id) {
+            Object bucket = buckets.get(key);
+            if (bucket == null) {
+                buckets.put(key, id);
+            } else if (bucket instanceof Long single) {
+                if (!single.equals(id)) {
+                    Set<Long> ids = new HashSet<>(4);
+                    ids.add(single);
+                    ids.add(id);
+                    buckets.put(key, ids);
+                }
+            } else {
+                ((Set<Long>) bucket).add(id);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(K key, Long id) {
+            Object bucket = buckets.get(key);
+            if (bucket instanceof Long single) {
+                if (single.equals(id)) {
+                    buckets.remove(key);
+                }
+            } else if (bucket != null) {
+                Set<Long> ids = (Set<Long>) bucket;
+                ids.remove(id);
+                if (ids.size() == 1) {
+                    buckets.put(key, ids.iterator().next());
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Collection<Long> get(K key) {
+            Object bucket = buckets.get(key);
+            if (bucket == null) {
+                return List.of();
+            }
+            return bucket instanceof Long single ? List.of(single) : (Set<Long>) bucket;
+        }
+
+        // Buckets holding more than one hotel
+        @SuppressWarnings("unchecked")
+        List<Set<Long>> groups() {
+            List<Set<Long>> groups = new ArrayList<>();
+            for (Object bucket : buckets.values()) {
+                if (bucket instanceof Set<?>) {
+                    groups.add((Set<Long>) bucket);
+                }
+            }
+            return groups;
+        }
+
+        void clear() {
+            buckets.clear();
+        }
+    }
+
+    private record Fingerprint(Hotel hotel, String city, long[] nameShingles, long[] addressTokens,
+                               Set<String> contacts, long[] bands) {
+    }
+
+    private record Pair(Long first, Long second) {
+        static Pair of(Long a, Long b) {
+            return a < b ? new Pair(a, b) : new Pair(b, a);
+        }
+    }
+}
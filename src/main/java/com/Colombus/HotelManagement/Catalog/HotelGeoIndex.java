@@ -0,0 +1,51 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+// Hotels with coordinates, for GET /hotels/nearby
+@Component
+public class HotelGeoIndex implements HotelIndex {
+    private final GeoGridIndex<Hotel> grid;
+
+    public HotelGeoIndex(@Value("${app.geo.cell-degrees:0.1}") double cellDegrees) {
+        this.grid = new GeoGridIndex<>(cellDegrees);
+    }
+
+    public List<NearbyHotel> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        return grid.nearby(latitude, longitude, radiusKm, limit).stream()
+                .map(neighbor -> new NearbyHotel(neighbor.value(), Math.round(neighbor.distanceKm() * 1000) / 1000.0))
+                .toList();
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    @Override
+    public void rebuild(Collection<Hotel> hotels) {
+        grid.clear();
+        hotels.forEach(this::put);
+    }
+
+    @Override
+    public void put(Hotel hotel) {
+        grid.put(hotel.getId(), point(hotel), hotel);
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        grid.remove(hotelId);
+    }
+
+    private static GeoPoint point(Hotel hotel) {
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            return null;
+        }
+        return new GeoPoint(hotel.getLatitude(), hotel.getLongitude());
+    }
+}
@@ -0,0 +1,17 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.util.Collection;
+
+/**
+ * An in-memory view of the hotels kept up to date by HotelCatalog.
+ * Calls are serialized by the catalog; the hotels passed in are shared and must not be modified.
+ */
+public interface HotelIndex {
+    void rebuild(Collection<Hotel> hotels);
+
+    void put(Hotel hotel);
+
+    void remove(Long hotelId);
+}
@@ -0,0 +1,293 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant autocomplete over hotel names, cities and states, for GET /hotels/suggest.
+ * Every word of a name starts a key, so "pal" finds "Hotel Taj Palace". Suggestions are ranked by edit distance,
+ * then preferred hotels first, then popularity: views of the hotel (GET /hotels/{id}, folded in periodically)
+ * or, for cities and states, their number of hotels. View counts are kept in memory only.
+ */
+@Component
+public class HotelSuggestIndex implements HotelIndex {
+    public static final String HOTEL = "hotel";
+    public static final String CITY = "city";
+    public static final String STATE = "state";
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final Comparator<Term> RANKING = Comparator.comparing((Term term) -> !term.preferred)
+            .thenComparingLong(term -> -term.popularity)
+            .thenComparing(term -> term.text, String.CASE_INSENSITIVE_ORDER);
+
+    // Same order as RANKING, after the edit distance, on values copied while the read lock was held
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparingInt(Match::edits)
+            .thenComparing(match -> !match.term().preferred)
+            .thenComparingLong(match -> -match.popularity())
+            .thenComparing(match -> match.term().text, String.CASE_INSENSITIVE_ORDER);
+
+    private SuggestTrie<Term> hotelTrie = newTrie();
+    private SuggestTrie<Term> cityTrie = newTrie();
+    private SuggestTrie<Term> stateTrie = newTrie();
+    private final Map<Long, Term> hotelTerms = new HashMap<>();
+    private final Map<String, Term> cityTerms = new HashMap<>();
+    private final Map<String, Term> stateTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    /**
+     * Best suggestions for a prefix, optionally of one type. Up to two typos are tolerated depending on the
+     * length of the prefix: none for one or two characters, one up to five, two beyond.
+     */
+    public List<Suggestion> suggest(String prefix, String type, int limit) {
+        String query = normalize(prefix);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        int maxEdits = query.length() <= 2 ? 0 : query.length() <= 5 ? 1 : 2;
+        Map<Term, Integer> distances = new IdentityHashMap<>();
+        List<Match> matches = new ArrayList<>();
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            if (type == null || HOTEL.equals(type)) {
+                hotelTrie.search(query, maxEdits, distances);
+            }
+            if (type == null || CITY.equals(type)) {
+                cityTrie.search(query, maxEdits, distances);
+            }
+            if (type == null || STATE.equals(type)) {
+                stateTrie.search(query, maxEdits, distances);
+            }
+            // Popularity changes under the write lock, so it is copied here and the copies are sorted
+            distances.forEach((term, edits) -> matches.add(new Match(term, edits, term.popularity)));
+        } finally {
+            read.unlock();
+        }
+        return matches.stream()
+                .sorted(MATCH_ORDER)
+                .limit(Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+                .map(match -> match.term().toSuggestion(match.edits()))
+                .toList();
+    }
+
+    public void recordView(Long hotelId) {
+        pendingViews.computeIfAbsent(hotelId, id -> new LongAdder()).increment();
+    }
+
+    // Re-ranks viewed hotels in batches, so a view never takes the write lock
+    @Scheduled(fixedDelayString = "${app.suggest.popularity-refresh:1m}")
+    public void applyViews() {
+        Map<Long, LongAdder> views = pendingViews;
+        if (views.isEmpty()) {
+            return;
+        }
+        pendingViews = new ConcurrentHashMap<>();
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            views.forEach((id, count) -> {
+                Term term = hotelTerms.get(id);
+                if (term != null) {
+                    hotelTrie.remove(term, term.keys);
+                    term.popularity += count.sum();
+                    hotelTrie.add(term, term.keys);
+                }
+            });
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<Hotel> hotels) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            Map<Long, Long> popularity = new HashMap<>();
+            hotelTerms.forEach((id, term) -> popularity.put(id, term.popularity));
+            hotelTrie = newTrie();
+            cityTrie = newTrie();
+            stateTrie = newTrie();
+            hotelTerms.clear();
+            cityTerms.clear();
+            stateTerms.clear();
+
+            // Count cities and states first so each of their terms is added once, with its final rank
+            for (Hotel hotel : hotels) {
+                Term term = hotelTerm(hotel, popularity.getOrDefault(hotel.getId(), 0L));
+                hotelTerms.put(hotel.getId(), term);
+                hotelTrie.add(term, term.keys);
+                countTerm(cityTerms, CITY, hotel.getCity(), hotel.getState());
+                countTerm(stateTerms, STATE, hotel.getState(), null);
+            }
+            cityTerms.values().forEach(term -> cityTrie.add(term, term.keys));
+            stateTerms.values().forEach(term -> stateTrie.add(term, term.keys));
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void put(Hotel hotel) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            Term previous = removeHotel(hotel.getId());
+            Term term = hotelTerm(hotel, previous != null ? previous.popularity : 0);
+            hotelTerms.put(hotel.getId(), term);
+            hotelTrie.add(term, term.keys);
+            adjust(cityTrie, cityTerms, CITY, hotel.getCity(), hotel.getState(), 1);
+            adjust(stateTrie, stateTerms, STATE, hotel.getState(), null, 1);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            removeHotel(hotelId);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private Term removeHotel(Long hotelId) {
+        Term previous = hotelTerms.remove(hotelId);
+        if (previous != null) {
+            hotelTrie.remove(previous, previous.keys);
+            adjust(cityTrie, cityTerms, CITY, previous.city, previous.state, -1);
+            adjust(stateTrie, stateTerms, STATE, previous.state, null, -1);
+        }
+        return previous;
+    }
+
+    // A city or state ranks by its hotel count; it is re-added with the new count and dropped at zero
+    private static void adjust(SuggestTrie<Term> trie, Map<String, Term> terms, String type, String name, String state, int delta) {
+        String key = termKey(name, state);
+        if (key.isEmpty()) {
+            return;
+        }
+        Term term = terms.get(key);
+        if (term != null) {
+            trie.remove(term, term.keys);
+        } else if (delta > 0) {
+            term = new Term(type, name.trim(), null, null, state != null ? state.trim() : null, false, keys(name));
+            terms.put(key, term);
+        } else {
+            return;
+        }
+        term.popularity += delta;
+        if (term.popularity > 0) {
+            trie.add(term, term.keys);
+        } else {
+            terms.remove(key);
+        }
+    }
+
+    private static void countTerm(Map<String, Term> terms, String type, String name, String state) {
+        String key = termKey(name, state);
+        if (!key.isEmpty()) {
+            terms.computeIfAbsent(key, k -> new Term(type, name.trim(), null, null, state != null ? state.trim() : null, false, keys(name)))
+                    .popularity++;
+        }
+    }
+
+    private static Term hotelTerm(Hotel hotel, long popularity) {
+        Term term = new Term(HOTEL, hotel.getHotelName(), hotel.getId(), hotel.getCity(), hotel.getState(),
+                hotel.isPreferred(), keys(hotel.getHotelName()));
+        term.popularity = popularity;
+        return term;
+    }
+
+    private static String termKey(String name, String state) {
+        String normalized = normalize(name);
+        return normalized.isEmpty() || state == null ? normalized : normalized + "|" + normalize(state);
+    }
+
+    // The whole name and every suffix starting at a word
+    private static List<String> keys(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        if (!normalized.isEmpty()) {
+            keys.add(normalized);
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                keys.add(normalized.substring(i + 1));
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    // Lower case, with punctuation and runs of spaces collapsed to one space
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static SuggestTrie<Term> newTrie() {
+        return new SuggestTrie<>(RANKING, MAX_SUGGESTIONS);
+    }
+
+    private record Match(Term term, int edits, long popularity) {
+    }
+
+    private static final class Term {
+        final String type;
+        final String text;
+        final Long hotelId;
+        final String city;
+        final String state;
+        final boolean preferred;
+        final List<String> keys;
+        long popularity;
+
+        Term(String type, String text, Long hotelId, String city, String state, boolean preferred, List<String> keys) {
+            this.type = type;
+            this.text = text;
+            this.hotelId = hotelId;
+            this.city = city;
+            this.state = state;
+            this.preferred = preferred;
+            this.keys = keys;
+        }
+
+        Suggestion toSuggestion(int edits) {
+            return new Suggestion(type, text, hotelId, city, state, preferred, edits);
+        }
+    }
+}
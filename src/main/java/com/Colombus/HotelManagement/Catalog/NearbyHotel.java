@@ -0,0 +1,6 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+public record NearbyHotel(Hotel hotel, double distanceKm) {
+}
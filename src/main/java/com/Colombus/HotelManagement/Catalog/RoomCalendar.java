@@ -0,0 +1,171 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The free rooms of one room type night by night, run-length encoded: run i covers the nights from epoch day
+ * starts[i] up to (not including) ends[i], each with rooms[i] free rooms. Runs are sorted, do not overlap, and a run
+ * never directly follows one with the same count; nights outside every run have no free rooms. A season with the
+ * same count every night is a single run, and unlike one bit per night a run answers "at least n rooms".
+ * Instances are immutable, so queries read them without locking; with() returns a changed copy.
+ */
+public final class RoomCalendar {
+    private static final RoomCalendar EMPTY = new RoomCalendar(new int[0], new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] rooms;
+
+    private RoomCalendar(int[] starts, int[] ends, int[] rooms) {
+        this.starts = starts;
+        this.ends = ends;
+        this.rooms = rooms;
+    }
+
+    public static RoomCalendar empty() {
+        return EMPTY;
+    }
+
+    // The runs may come in any order but must not overlap
+    public static RoomCalendar of(Collection<AvailabilityRun> runs) {
+        List<AvailabilityRun> sorted = new ArrayList<>(runs);
+        sorted.sort(Comparator.comparing(AvailabilityRun::from));
+        Builder builder = new Builder(sorted.size());
+        for (AvailabilityRun run : sorted) {
+            int start = day(run.from());
+            if (start < builder.lastEnd()) {
+                throw new IllegalArgumentException("Overlapping availability runs at " + run.from());
+            }
+            builder.add(start, day(run.to()), run.rooms());
+        }
+        return builder.build();
+    }
+
+    // A copy with `count` free rooms on the nights from `from` up to (not including) `to`; other nights keep theirs
+    public RoomCalendar with(LocalDate from, LocalDate to, int count) {
+        int start = day(from);
+        int end = day(to);
+        if (start >= end) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("rooms must not be negative");
+        }
+        Builder builder = new Builder(starts.length + 2);
+        // The runs or parts of runs before the range, the range itself, then those after it
+        for (int i = 0; i < starts.length && starts[i] < start; i++) {
+            builder.add(starts[i], Math.min(ends[i], start), rooms[i]);
+        }
+        builder.add(start, end, count);
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] > end) {
+                builder.add(Math.max(starts[i], end), ends[i], rooms[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    // The fewest free rooms on any night from `from` up to (not including) `to`, 0 if a night has none
+    public int minRooms(LocalDate from, LocalDate to) {
+        int day = day(from);
+        int end = day(to);
+        if (day >= end) {
+            return 0;
+        }
+        // The run holding the first night is the last one starting on or before it
+        int i = Arrays.binarySearch(starts, day);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        int min = Integer.MAX_VALUE;
+        while (day < end) {
+            if (i < 0 || i >= starts.length || starts[i] > day || ends[i] <= day) {
+                return 0;
+            }
+            min = Math.min(min, rooms[i]);
+            day = ends[i];
+            i++;
+        }
+        return min;
+    }
+
+    public List<AvailabilityRun> runs() {
+        List<AvailabilityRun> runs = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            runs.add(new AvailabilityRun(LocalDate.ofEpochDay(starts[i]), LocalDate.ofEpochDay(ends[i]), rooms[i]));
+        }
+        return runs;
+    }
+
+    // The runs on the nights from `from` up to (not including) `to`, cut to that range
+    public List<AvailabilityRun> runs(LocalDate from, LocalDate to) {
+        int start = day(from);
+        int end = day(to);
+        List<AvailabilityRun> runs = new ArrayList<>();
+        for (int i = 0; i < starts.length && starts[i] < end; i++) {
+            if (ends[i] > start) {
+                runs.add(new AvailabilityRun(LocalDate.ofEpochDay(Math.max(starts[i], start)),
+                        LocalDate.ofEpochDay(Math.min(ends[i], end)), rooms[i]));
+            }
+        }
+        return runs;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    private static int day(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    // Appends runs in order, dropping empty ones and joining a run to the previous one when the count is the same
+    private static final class Builder {
+        private int[] starts;
+        private int[] ends;
+        private int[] rooms;
+        private int size;
+
+        Builder(int capacity) {
+            starts = new int[capacity];
+            ends = new int[capacity];
+            rooms = new int[capacity];
+        }
+
+        int lastEnd() {
+            return size == 0 ? Integer.MIN_VALUE : ends[size - 1];
+        }
+
+        void add(int start, int end, int count) {
+            if (start >= end || count == 0) {
+                return;
+            }
+            if (size > 0 && ends[size - 1] == start && rooms[size - 1] == count) {
+                ends[size - 1] = end;
+                return;
+            }
+            if (size == starts.length) {
+                int capacity = Math.max(4, size * 2);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                rooms = Arrays.copyOf(rooms, capacity);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            rooms[size] = count;
+            size++;
+        }
+
+        RoomCalendar build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new RoomCalendar(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size), Arrays.copyOf(rooms, size));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie whose nodes each keep the best few entries of their subtree, so a prefix is answered from the
+ * nodes it reaches instead of by walking everything below them. Typo tolerance comes from walking the trie with
+ * a row of the edit-distance table per node and pruning branches that can no longer match.
+ * An entry may be reachable through several keys. Not thread-safe; entries are compared by identity.
+ */
+final class SuggestTrie<E> {
+    private final Comparator<? super E> ranking;
+    private final int topSize;
+    private final Node<E> root = new Node<>();
+
+    SuggestTrie(Comparator<? super E> ranking, int topSize) {
+        this.ranking = ranking;
+        this.topSize = topSize;
+    }
+
+    void add(E entry, Collection<String> keys) {
+        for (String key : keys) {
+            Node<E> node = root;
+            offer(node, entry);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                offer(node, entry);
+            }
+            if (!containsIdentity(node.ends, entry)) {
+                node.ends.add(entry);
+            }
+        }
+    }
+
+    // The entry's ranking must not have changed since it was added
+    void remove(E entry, Collection<String> keys) {
+        for (String key : keys) {
+            List<Node<E>> path = new ArrayList<>(key.length() + 1);
+            Node<E> node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null || !removeIdentity(node.ends, entry)) {
+                continue;
+            }
+            for (int i = key.length(); i >= 0; i--) {
+                Node<E> current = path.get(i);
+                if (i > 0 && current.ends.isEmpty() && current.labels.length == 0) {
+                    path.get(i - 1).removeChild(key.charAt(i - 1));
+                } else if (containsIdentity(current.top, entry)) {
+                    recompute(current);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds to distances the top entries below every node whose path is within maxEdits of the query, i.e. whose
+     * keys start with something close to the query (optimal string alignment: insertions, deletions,
+     * substitutions and adjacent transpositions). An entry reached more than once keeps its smallest distance.
+     */
+    void search(String query, int maxEdits, Map<E, Integer> distances) {
+        int[] row = new int[query.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        if (row[query.length()] <= maxEdits) {
+            collect(root, row[query.length()], distances);
+        }
+        Node<E> node = root;
+        for (int i = 0; i < node.labels.length; i++) {
+            search(node.children[i], node.labels[i], (char) 0, row, null, query, maxEdits, distances);
+        }
+    }
+
+    private void search(Node<E> node, char c, char previousChar, int[] previousRow, int[] twoBackRow,
+                        String query, int maxEdits, Map<E, Integer> distances) {
+        int n = query.length();
+        int[] row = new int[n + 1];
+        row[0] = previousRow[0] + 1;
+        int min = row[0];
+        for (int i = 1; i <= n; i++) {
+            char q = query.charAt(i - 1);
+            int value = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + (q == c ? 0 : 1));
+            if (twoBackRow != null && i > 1 && q == previousChar && query.charAt(i - 2) == c) {
+                value = Math.min(value, twoBackRow[i - 2] + 1);
+            }
+            row[i] = value;
+            min = Math.min(min, value);
+        }
+        if (row[n] <= maxEdits) {
+            collect(node, row[n], distances);
+        }
+        if (min <= maxEdits) {
+            for (int i = 0; i < node.labels.length; i++) {
+                search(node.children[i], node.labels[i], c, row, previousRow, query, maxEdits, distances);
+            }
+        }
+    }
+
+    private void collect(Node<E> node, int distance, Map<E, Integer> distances) {
+        for (E entry : node.top) {
+            distances.merge(entry, distance, Math::min);
+        }
+    }
+
+    private void offer(Node<E> node, E entry) {
+        List<E> top = node.top;
+        if (containsIdentity(top, entry)) {
+            return;
+        }
+        if (top.size() < topSize) {
+            top.add(entry);
+        } else if (ranking.compare(entry, top.get(top.size() - 1)) < 0) {
+            top.set(top.size() - 1, entry);
+        } else {
+            return;
+        }
+        top.sort(ranking);
+    }
+
+    // Best entries among the node's own and its children's top lists
+    private void recompute(Node<E> node) {
+        List<E> top = node.top;
+        top.clear();
+        for (E entry : node.ends) {
+            offer(node, entry);
+        }
+        for (Node<E> child : node.children) {
+            for (E entry : child.top) {
+                offer(node, entry);
+            }
+        }
+    }
+
+    private static <E> boolean containsIdentity(List<E> list, E entry) {
+        for (E e : list) {
+            if (e == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <E> boolean removeIdentity(List<E> list, E entry) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == entry) {
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Children in sorted arrays: most nodes have one or two, and a map per node would dominate the memory use
+    private static final class Node<E> {
+        private static final char[] NO_LABELS = new char[0];
+
+        char[] labels = NO_LABELS;
+        @SuppressWarnings("unchecked")
+        Node<E>[] children = new Node[0];
+        final List<E> ends = new ArrayList<>(1);
+        final List<E> top = new ArrayList<>(1);
+
+        Node<E> child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node<E> childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node<E> child = new Node<>();
+            char[] newLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            newLabels[at] = c;
+            Node<E>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            newChildren[at] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+            Node<E>[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.Colombus.HotelManagement.Catalog;
+
+// hotelId is set for hotel suggestions, state for hotel and city suggestions; edits is 0 for an exact prefix match
+public record Suggestion(String type, String text, Long hotelId, String city, String state, boolean preferred, int edits) {
+}
@@ -0,0 +1,21 @@
+package com.Colombus.HotelManagement.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheRegionProperties {
+    // Region name -> size/TTL, see CacheRegions for the names in use
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private long maxEntries = 1000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,16 @@
+package com.Colombus.HotelManagement.Config;
+
+// Names of the Hibernate second-level cache regions; sizes and TTLs are set under app.cache.regions.<name>
+public final class CacheRegions {
+    public static final String HOTELS = "hotels";
+    public static final String USERS = "users";
+    public static final String USER_NATURAL_IDS = "user-natural-ids";
+    public static final String HOTEL_QUERIES = "hotel-queries";
+    public static final String USER_QUERIES = "user-queries";
+    // Hibernate's own regions
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
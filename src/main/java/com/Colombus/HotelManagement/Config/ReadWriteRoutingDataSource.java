@@ -0,0 +1,122 @@
+package com.Colombus.HotelManagement.Config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends connections of read-only transactions that opted in with allowReplicaForCurrentTransaction() (see
+ * ReplicaReads) to the replica and everything else to the primary. Other read-only transactions, such as the
+ * inherited Spring Data finders, stay on the primary so they can follow a write.
+ * After an authenticated client commits a write, its reads stay on the primary for the sticky window so that it
+ * always sees its own writes despite replication lag. Anonymous clients have no stickiness; no replica read
+ * is reachable without a token.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the target is chosen once the transaction's
+ * read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final String WRITE_TRACKING_KEY = ReadWriteRoutingDataSource.class.getName() + ".write";
+    private static final String REPLICA_ALLOWED_KEY = ReadWriteRoutingDataSource.class.getName() + ".replica";
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+    // Client (principal name) -> System.nanoTime() until which its reads go to the primary
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // Must be called in a new read-only transaction before its first statement
+    public static void allowReplicaForCurrentTransaction() {
+        if (TransactionSynchronizationManager.hasResource(REPLICA_ALLOWED_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_ALLOWED_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_ALLOWED_KEY);
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            boolean replicaAllowed = TransactionSynchronizationManager.hasResource(REPLICA_ALLOWED_KEY);
+            return replicaAllowed && !isSticky(currentClient()) ? Route.REPLICA : Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            trackWrite();
+        }
+        return Route.PRIMARY;
+    }
+
+    private boolean isSticky(String client) {
+        if (client == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(client, until);
+        return false;
+    }
+
+    // Once per read-write transaction: make the client sticky when (and only if) it commits
+    private void trackWrite() {
+        if (TransactionSynchronizationManager.hasResource(WRITE_TRACKING_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKING_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(currentClient());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKING_KEY);
+            }
+        });
+    }
+
+    private void markWrite(String client) {
+        if (client == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now <= 0);
+        }
+        stickyUntil.put(client, now + stickyWindowNanos);
+    }
+
+    // The principal name, or null for anonymous callers and background work
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
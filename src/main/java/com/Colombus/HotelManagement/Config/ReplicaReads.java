@@ -0,0 +1,56 @@
+package com.Colombus.HotelManagement.Config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs read-only work that may be answered by the read replica (see ReadWriteRoutingDataSource): list queries whose
+ * results can lag the primary by the replication delay. Every other read, including @Transactional(readOnly = true)
+ * methods and the inherited repository finders, goes to the primary. Inside an existing transaction the work joins
+ * it and uses its connection.
+ * <p>
+ * With the replica enabled the work still reads the second-level and query caches but never puts into them: rows
+ * read from a lagging replica would otherwise be served to every instance as current until the next invalidation.
+ */
+@Component
+public class ReplicaReads {
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final boolean replicaEnabled;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager, EntityManager entityManager,
+                        @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        return readOnlyTransaction.execute(status -> {
+            if (!status.isNewTransaction()) {
+                return work.get();
+            }
+            ReadWriteRoutingDataSource.allowReplicaForCurrentTransaction();
+            if (!replicaEnabled) {
+                return work.get();
+            }
+            // The session can outlive the transaction (open-in-view), so restore its cache mode afterwards
+            Session session = entityManager.unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            session.setCacheMode(CacheMode.GET);
+            try {
+                return work.get();
+            } finally {
+                session.setCacheMode(previous);
+            }
+        });
+    }
+}
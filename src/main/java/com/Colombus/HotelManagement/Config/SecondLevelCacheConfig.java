@@ -0,0 +1,90 @@
+package com.Colombus.HotelManagement.Config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache on Ehcache (through JCache).
+ * Every region is created here from app.cache.regions so that sizes and TTLs are explicit;
+ * Hibernate is configured to fail on regions that are not declared.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheRegionProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CacheRegionProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // A private manager per application context, so two contexts in one JVM never share entries
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:hms:hibernate:" + UUID.randomUUID()),
+                new DefaultConfiguration(provider.getDefaultClassLoader()));
+
+        for (Map.Entry<String, CacheRegionProperties.Region> entry : properties.getRegions().entrySet()) {
+            CacheRegionProperties.Region region = entry.getValue();
+            cacheManager.createCache(entry.getKey(), Eh107Configuration.fromEhcacheCacheConfiguration(
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                    ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()))));
+        }
+
+        // Update timestamps must outlive every cached query result they guard, so they never expire
+        if (cacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS) == null) {
+            cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, Eh107Configuration.fromEhcacheCacheConfiguration(
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                    ResourcePoolsBuilder.heap(10_000))
+                            .withExpiry(ExpiryPolicyBuilder.noExpiration())));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // hibernate.cache.hit.ratio{region}: hits / (hits + misses) since startup
+    @Bean
+    public MeterBinder secondLevelCacheHitRatios(EntityManagerFactory entityManagerFactory, CacheRegionProperties properties) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : properties.getRegions().keySet()) {
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                        .tag("region", region)
+                        .description("Second-level/query cache hit ratio of the region")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
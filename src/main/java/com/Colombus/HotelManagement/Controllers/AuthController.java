@@ -2,15 +2,25 @@ package com.Colombus.HotelManagement.Controllers;
 
 import com.Colombus.HotelManagement.Models.User;
 import com.Colombus.HotelManagement.Security.JwtUtil;
+import com.Colombus.HotelManagement.Security.StreamTickets;
+import com.Colombus.HotelManagement.Services.DuplicateFieldException;
+import com.Colombus.HotelManagement.Services.PendingUserSummary;
+import com.Colombus.HotelManagement.Services.UserCsvWriter;
 import com.Colombus.HotelManagement.Services.UserService;
+import com.Colombus.HotelManagement.Streaming.ChangeBroadcaster;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -26,18 +36,23 @@ public class AuthController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ChangeBroadcaster changeBroadcaster;
+    private final StreamTickets streamTickets;
 
-    public AuthController(UserService userService, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                          ChangeBroadcaster changeBroadcaster, StreamTickets streamTickets) {
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.changeBroadcaster = changeBroadcaster;
+        this.streamTickets = streamTickets;
     }
 
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody User user) {
         try {
-            logger.info("Registration attempt for user: {}", user.getUserName());
-            
+            logger.debug("Registration attempt for user: {}", user.getUserName());
+
             // Validation checks
             if (user.getUserName() == null || user.getUserName().trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("message", "Username is required"));
@@ -47,32 +62,7 @@ public class AuthController {
                 return ResponseEntity.badRequest().body(Map.of("message", "Password is required"));
             }
             
-            // Check if user already exists
-            if (userService.getUserByUserName(user.getUserName()).isPresent()) {
-                logger.warn("Registration failed: Username already exists: {}", user.getUserName());
-                return ResponseEntity.badRequest().body(Map.of("message", "Username already exists"));
-            }
-            
-            // Ensure role is set properly
-            if (user.getRole() == null || user.getRole().isEmpty()) {
-                user.setRole("USER");
-            }
-            
-            // For first user, set as ADMIN and approved
-            long userCount = userService.getUserCount();
-            if (userCount == 0) {
-                user.setRole("ADMIN");
-                user.setApproved(true);
-                logger.info("First user - setting as ADMIN and approved");
-            } else {
-                // Other users need approval
-                user.setApproved(false);
-            }
-            
-            // Log registration details
-            logger.info("Creating user: {}, role: {}, approved: {}", 
-                    user.getUserName(), user.getRole(), user.isApproved());
-            
+            // Role and approval are assigned by the service (first user becomes ADMIN)
             User registeredUser = userService.registerUser(user);
             
             logger.info("User registered successfully: {}", registeredUser.getUserName());
@@ -91,6 +81,9 @@ public class AuthController {
             response.put("user", userMap);
             
             return ResponseEntity.ok(response);
+        } catch (DuplicateFieldException e) {
+            logger.warn("Registration failed: duplicate {}", e.getField());
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage(), "field", e.getField()));
         } catch (RuntimeException e) {
             logger.error("Registration error: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
@@ -103,7 +96,7 @@ public class AuthController {
         String userName = credentials.get("userName");
         String password = credentials.get("password");
 
-            logger.info("Login attempt for user: {}", userName);
+            logger.debug("Login attempt for user: {}", userName);
 
             if (userName == null || password == null) {
                 logger.warn("Login failed: Username or password is null");
@@ -113,15 +106,13 @@ public class AuthController {
             // Special case for admin user if it's not in the database
             if ("ADMIN1".equals(userName) && "password".equals(password)) {
                 logger.info("Admin login detected");
-                User adminUser = new User();
+                User adminUser = User.named("ADMIN1");
                 adminUser.setId(999L); // Use a special ID for the admin
-                adminUser.setUserName("ADMIN1");
                 adminUser.setRole("ADMIN"); // Note: not prefixed with ROLE_ (that's added in the filter)
                 adminUser.setEmail("admin@example.com");
                 adminUser.setApproved(true); // Admin is always approved
                 
                 String token = jwtUtil.generateToken(adminUser);
-                logger.info("Generated token for admin: {}", token);
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("token", token);
@@ -134,8 +125,6 @@ public class AuthController {
                 userMap.put("approved", adminUser.isApproved());
                 
                 response.put("user", userMap);
-                
-                logger.info("Admin login response: {}", response);
 
                 return ResponseEntity.ok(response);
             }
@@ -163,7 +152,6 @@ public class AuthController {
             
             // User is valid, generate token
             String token = jwtUtil.generateToken(user);
-            logger.info("Generated token for user: {}", userName);
 
             Map<String, Object> response = new HashMap<>();
             response.put("token", token);
@@ -194,8 +182,6 @@ public class AuthController {
                 String username = jwtUtil.extractUsername(token);
                 String role = jwtUtil.extractRole(token);
                 
-                logger.info("Token validation - Username: {}, Role: {}", username, role);
-                
                 if (username != null && role != null) {
                     return ResponseEntity.ok(Map.of(
                         "valid", true,
@@ -212,39 +198,55 @@ public class AuthController {
         }
     }
     
-    // Get pending approval users (admin only)
+    // Get pending approval users (admin only), one page at a time ordered by registration time
     @GetMapping("/pending-approvals")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<?> getPendingApprovals() {
+    public ResponseEntity<?> getPendingApprovals(@RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "50") int size) {
         try {
-            List<User> pendingUsers = userService.getPendingApprovalUsers();
+            Page<User> pendingUsers = userService.getPendingApprovalUsers(page, size);
             
-            // Convert to a list of maps with selected user properties
-            List<Map<String, Object>> usersResponse = pendingUsers.stream()
-                .map(user -> {
-                    Map<String, Object> userMap = new HashMap<>();
-                    userMap.put("id", user.getId());
-                    userMap.put("userName", user.getUserName());
-                    userMap.put("email", user.getEmail());
-                    userMap.put("companyName", user.getCompanyName());
-                    userMap.put("contactNumber", user.getContactNumber());
-                    userMap.put("mobileNumber", user.getMobileNumber());
-                    userMap.put("address", user.getAddress());
-                    userMap.put("city", user.getCity());
-                    userMap.put("state", user.getState());
-                    userMap.put("website", user.getWebsite());
-                    userMap.put("concerningPersonName", user.getConcerningPersonName());
-                    return userMap;
-                })
+            // Selected user properties only
+            List<PendingUserSummary> usersResponse = pendingUsers.getContent().stream()
+                .map(PendingUserSummary::of)
                 .collect(Collectors.toList());
             
-            return ResponseEntity.ok(usersResponse);
+            // Paging metadata travels in headers so the body stays a plain array
+            return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(pendingUsers.getTotalElements()))
+                .header("X-Total-Pages", String.valueOf(pendingUsers.getTotalPages()))
+                .header("X-Page", String.valueOf(pendingUsers.getNumber()))
+                .header("X-Page-Size", String.valueOf(pendingUsers.getSize()))
+                .body(usersResponse);
         } catch (Exception e) {
             logger.error("Error fetching pending approvals: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of("message", "Failed to fetch pending approvals: " + e.getMessage()));
         }
     }
     
+    // Live pending-approval changes (admin only): "created" events carry the new user, "approved"/"rejected" the id.
+    // EventSource cannot send headers, so it passes a ticket from POST /auth/stream-ticket as ?ticket=. A ticket is
+    // used once: to resume, a client opens a new EventSource with a new ticket and ?lastEventId=
+    @GetMapping(value = "/pending-approvals/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public SseEmitter streamPendingApprovals(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                             @RequestParam(value = "lastEventId", required = false) Long resumeFrom) {
+        return changeBroadcaster.subscribe(ChangeEvent.PENDING_APPROVALS, lastEventId != null ? lastEventId : resumeFrom);
+    }
+
+    // Single-use ticket for opening one SSE stream (stream=/hotels/stream or /auth/pending-approvals/stream); the
+    // stream still checks the user's authorities when the ticket is used
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<?> issueStreamTicket(@RequestParam String stream, Authentication authentication) {
+        try {
+            return ResponseEntity.ok(Map.of(
+                    "ticket", streamTickets.issue(authentication.getName(), stream),
+                    "expiresIn", streamTickets.ttl().toSeconds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     // Approve user (admin only)
     @PostMapping("/approve-user/{userId}")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
@@ -252,20 +254,7 @@ public class AuthController {
         try {
             logger.info("Attempting to approve user with ID: {}", userId);
             
-            // First fetch the user to verify it exists
-            Optional<User> userOptional = userService.getUserById(userId);
-            if (userOptional.isEmpty()) {
-                logger.warn("User with ID {} not found for approval", userId);
-                return ResponseEntity.badRequest().body(Map.of("message", "User not found"));
-            }
-            
-            User user = userOptional.get();
-            logger.info("Found user for approval: {} (current approval status: {})", 
-                    user.getUserName(), user.isApproved());
-            
-            // Set to approved and save
-            user.setApproved(true);
-            User approvedUser = userService.saveUser(user);
+            User approvedUser = userService.approveUser(userId);
             
             logger.info("User {} successfully approved", approvedUser.getUserName());
             
@@ -278,6 +267,9 @@ public class AuthController {
                     "approved", approvedUser.isApproved()
                 )
             ));
+        } catch (EntityNotFoundException e) {
+            logger.warn("User with ID {} not found for approval", userId);
+            return ResponseEntity.badRequest().body(Map.of("message", "User not found"));
         } catch (Exception e) {
             logger.error("Error approving user: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of("message", "Failed to approve user: " + e.getMessage()));
@@ -297,11 +289,53 @@ public class AuthController {
         }
     }
 
+    // Approve several pending users at once (admin only)
+    @PostMapping("/approve-users")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> approveUsers(@RequestBody Map<String, List<Long>> request) {
+        List<Long> userIds = request.get("ids");
+        if (userIds == null || userIds.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "ids are required"));
+        }
+        try {
+            List<Long> approvedIds = userService.approveUsers(userIds);
+            logger.info("Bulk approved {} of {} requested users", approvedIds.size(), userIds.size());
+            return ResponseEntity.ok(Map.of(
+                "message", approvedIds.size() + " users approved successfully",
+                "ids", approvedIds
+            ));
+        } catch (Exception e) {
+            logger.error("Error approving users: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(Map.of("message", "Failed to approve users: " + e.getMessage()));
+        }
+    }
+
+    // Reject/delete several pending users at once (admin only)
+    @PostMapping("/reject-users")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> rejectUsers(@RequestBody Map<String, List<Long>> request) {
+        List<Long> userIds = request.get("ids");
+        if (userIds == null || userIds.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "ids are required"));
+        }
+        try {
+            List<Long> rejectedIds = userService.rejectUsers(userIds);
+            logger.info("Bulk rejected {} of {} requested users", rejectedIds.size(), userIds.size());
+            return ResponseEntity.ok(Map.of(
+                "message", rejectedIds.size() + " users rejected and removed successfully",
+                "ids", rejectedIds
+            ));
+        } catch (Exception e) {
+            logger.error("Error rejecting users: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(Map.of("message", "Failed to reject users: " + e.getMessage()));
+        }
+    }
+
     // Debug endpoint to check user status
     @GetMapping("/check-user/{userName}")
     public ResponseEntity<?> checkUserStatus(@PathVariable String userName) {
         try {
-            Optional<User> userOpt = userService.getUserByUserName(userName);
+            Optional<User> userOpt = userService.findUserForAvailabilityCheck(userName);
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
                 return ResponseEntity.ok(Map.of(
@@ -320,12 +354,33 @@ public class AuthController {
         }
     }
 
+    // Signup form availability check; free values are usually answered without a database query
+    @GetMapping("/check-availability")
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String userName,
+                                               @RequestParam(required = false) String email) {
+        if ((userName == null || userName.isBlank()) && (email == null || email.isBlank())) {
+            return ResponseEntity.badRequest().body(Map.of("message", "userName or email is required"));
+        }
+        try {
+            Map<String, Object> response = new HashMap<>();
+            if (userName != null && !userName.isBlank()) {
+                response.put("userNameAvailable", !userService.isUserNameTaken(userName));
+            }
+            if (email != null && !email.isBlank()) {
+                response.put("emailAvailable", !userService.isEmailTaken(email));
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("Error checking availability: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Get all users (admin only)
     @GetMapping("/users")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     public ResponseEntity<?> getAllUsers() {
         try {
-            logger.info("Fetching all users");
             List<User> users = userService.getAllUsers();
             
             List<Map<String, Object>> usersResponse = users.stream()
@@ -348,7 +403,6 @@ public class AuthController {
                 })
                 .collect(Collectors.toList());
             
-            logger.info("Returning {} users", usersResponse.size());
             return ResponseEntity.ok(usersResponse);
         } catch (Exception e) {
             logger.error("Error fetching users: {}", e.getMessage(), e);
@@ -361,56 +415,21 @@ public class AuthController {
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     public ResponseEntity<byte[]> downloadUsersAsCsv() {
         try {
-            logger.info("Generating user data CSV");
             List<User> users = userService.getAllUsers();
             
-            StringBuilder csvContent = new StringBuilder();
-            // Add CSV header
-            csvContent.append("ID,Username,Email,Company Name,Contact Person,Contact Number,Mobile Number,Address,City,State,Website,Role,Approved\n");
-            
-            // Add data rows
-            for (User user : users) {
-                csvContent.append(user.getId()).append(",");
-                csvContent.append(escapeCsvField(user.getUserName())).append(",");
-                csvContent.append(escapeCsvField(user.getEmail())).append(",");
-                csvContent.append(escapeCsvField(user.getCompanyName())).append(",");
-                csvContent.append(escapeCsvField(user.getConcerningPersonName())).append(",");
-                csvContent.append(escapeCsvField(user.getContactNumber())).append(",");
-                csvContent.append(escapeCsvField(user.getMobileNumber())).append(",");
-                csvContent.append(escapeCsvField(user.getAddress())).append(",");
-                csvContent.append(escapeCsvField(user.getCity())).append(",");
-                csvContent.append(escapeCsvField(user.getState())).append(",");
-                csvContent.append(escapeCsvField(user.getWebsite())).append(",");
-                csvContent.append(escapeCsvField(user.getRole())).append(",");
-                csvContent.append(user.isApproved()).append("\n");
-            }
+            String csvContent = UserCsvWriter.write(users);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.parseMediaType("text/csv"));
             headers.setContentDispositionFormData("attachment", "travel_agents.csv");
             
-            logger.info("CSV generated successfully with {} users", users.size());
             return ResponseEntity
                 .ok()
                 .headers(headers)
-                .body(csvContent.toString().getBytes());
+                .body(csvContent.getBytes());
         } catch (Exception e) {
             logger.error("Error generating CSV: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
-    
-    // Helper method to escape CSV fields that may contain commas
-    private String escapeCsvField(String field) {
-        if (field == null) {
-            return "";
-        }
-        
-        // If the field contains commas, quotes, or newlines, wrap it in quotes and escape any quotes
-        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
-            return "\"" + field.replace("\"", "\"\"") + "\"";
-        }
-        
-        return field;
-    }
 }
@@ -1,22 +1,42 @@
 package com.Colombus.HotelManagement.Controllers;
 
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
-import java.util.Map;
-
+// Liveness and readiness for the platform's health checks, answered from the actuator health groups of the same name
 @RestController
 @RequestMapping("/api/health")
 public class HealthController {
+    private final HealthEndpoint healthEndpoint;
+
+    public HealthController(HealthEndpoint healthEndpoint) {
+        this.healthEndpoint = healthEndpoint;
+    }
+
+    // The process is running and not broken; says nothing about the database or warm-up
+    @GetMapping({"", "/live"})
+    public ResponseEntity<HealthComponent> liveness() {
+        return group("liveness");
+    }
+
+    // 200 once the database answers within its latency threshold and the warm-up has finished, 503 before
+    @GetMapping("/ready")
+    public ResponseEntity<HealthComponent> readiness() {
+        return group("readiness");
+    }
 
-    @GetMapping
-    public ResponseEntity<Map<String, String>> healthCheck() {
-        Map<String, String> status = new HashMap<>();
-        status.put("status", "UP");
-        status.put("message", "Application is running normally");
-        return ResponseEntity.ok(status);
+    private ResponseEntity<HealthComponent> group(String name) {
+        HealthComponent health = healthEndpoint.healthForPath(name);
+        if (health == null) {
+            return ResponseEntity.notFound().build();
+        }
+        HttpStatus status = Status.UP.equals(health.getStatus()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(health);
     }
-} 
\ No newline at end of file
+}
@@ -1,15 +1,28 @@
 package com.Colombus.HotelManagement.Controllers;
 
 import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Services.AvailabilityRange;
+import com.Colombus.HotelManagement.Services.AvailabilityService;
 import com.Colombus.HotelManagement.Services.HotelService;
+import com.Colombus.HotelManagement.Streaming.ChangeBroadcaster;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,41 +30,26 @@ import java.util.HashMap;
 
 @RestController
 @RequestMapping("/hotels")
-@CrossOrigin(origins = "http://localhost:3000", allowedHeaders = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@CrossOrigin(origins = "http://localhost:3000", allowedHeaders = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH, RequestMethod.DELETE})
 public class HotelController {
     private static final Logger logger = LoggerFactory.getLogger(HotelController.class);
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
     private final HotelService hotelService;
+    private final ChangeBroadcaster changeBroadcaster;
+    private final AvailabilityService availabilityService;
 
-    public HotelController(HotelService hotelService) {
+    public HotelController(HotelService hotelService, ChangeBroadcaster changeBroadcaster,
+                           AvailabilityService availabilityService) {
         this.hotelService = hotelService;
+        this.changeBroadcaster = changeBroadcaster;
+        this.availabilityService = availabilityService;
     }
 
     // Add a new hotel (Admin only)
     @PostMapping("/add")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<?> addHotel(@RequestBody Hotel hotel, @RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> addHotel(@RequestBody Hotel hotel) {
         try {
-            logger.info("Received request to add hotel: {}", hotel);
-            logger.info("Authorization header: {}", authHeader);
-            
-            // Extract and log token info
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                logger.info("Token first 20 chars: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
-            }
-            
-            // Print out all hotel properties for debugging
-            logger.info("Hotel details - Name: {}, Email1: {}, Email2: {}, Address: {}, MobilePhone: {}, Landline: {}, ConcerningPerson: {}, Preferred: {}",
-                hotel.getHotelName(),
-                hotel.getEmail1(),
-                hotel.getEmail2(),
-                hotel.getAddress(),
-                hotel.getMobilePhoneContact(),
-                hotel.getLandlineContact(),
-                hotel.getConcerningPersonName(),
-                hotel.isPreferred()
-            );
-            
             // Validate required fields
             if (hotel.getHotelName() == null || hotel.getHotelName().trim().isEmpty()) {
                 logger.warn("Hotel name is required but was empty");
@@ -74,15 +72,12 @@ public class HotelController {
                 return ResponseEntity.badRequest().body(Map.of("message", "Concerning person name is required"));
             }
 
-            logger.info("Attempting to save hotel to database");
             Hotel savedHotel = hotelService.addHotel(hotel);
-            logger.info("Successfully added hotel with ID: {}", savedHotel.getId());
+            logger.info("Added hotel with ID: {}", savedHotel.getId());
             return ResponseEntity.ok(savedHotel);
         } catch (Exception e) {
             logger.error("Error adding hotel: {}", e.getMessage(), e);
-            // Print full stack trace for detailed debugging
-            e.printStackTrace();
-            
+
             if (e.getMessage() != null && 
                 (e.getMessage().contains("ConstraintViolationException") || 
                 e.getMessage().contains("DataIntegrityViolationException"))) {
@@ -100,51 +95,172 @@ public class HotelController {
     // Get all hotels
     @GetMapping("/all")
     public ResponseEntity<List<Hotel>> getAllHotels() {
-        logger.info("Fetching all hotels");
         List<Hotel> hotels = hotelService.getAllHotels();
-        logger.info("Retrieved {} hotels", hotels.size());
         return ResponseEntity.ok(hotels);
     }
 
+    // Live hotel changes as Server-Sent Events: "created"/"updated" carry the hotel (a PATCH only the changed
+    // fields), "deleted" the id, "reset" means events were missed and the list must be reloaded.
+    // EventSource cannot send headers, so it passes a ticket from POST /auth/stream-ticket as ?ticket=. A ticket is
+    // used once: to resume, a client opens a new EventSource with a new ticket and ?lastEventId=
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamHotelChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                         @RequestParam(value = "lastEventId", required = false) Long resumeFrom) {
+        return changeBroadcaster.subscribe(ChangeEvent.HOTELS, lastEventId != null ? lastEventId : resumeFrom);
+    }
+
+    // Delta sync: hotels changed and ids deleted after the given change version (0 = everything).
+    // Start from 0 or from the highest changeVersion of a full /hotels/all download.
+    @GetMapping("/changes")
+    public ResponseEntity<?> getHotelChanges(@RequestParam(defaultValue = "0") long since,
+                                             @RequestParam(defaultValue = "500") int limit) {
+        if (since < 0) {
+            return ResponseEntity.badRequest().body(Map.of("message", "since must not be negative"));
+        }
+        return ResponseEntity.ok(hotelService.getChangesSince(since, limit));
+    }
+
+    // Hotels within radiusKm of a point, nearest first, each with its distance. Coordinates come from the
+    // gazetteer entry of the hotel's city, so distances are between city centres.
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyHotels(@RequestParam double lat, @RequestParam double lon,
+                                             @RequestParam(defaultValue = "10") double radiusKm,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        if (!(lat >= -90 && lat <= 90) || !(lon >= -180 && lon <= 180)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "lat must be between -90 and 90 and lon between -180 and 180"));
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "radiusKm must be greater than 0 and at most " + (int) MAX_NEARBY_RADIUS_KM));
+        }
+        return ResponseEntity.ok(hotelService.findNearbyHotels(lat, lon, radiusKm, limit));
+    }
+
+    // Typo-tolerant suggestions for hotel names, cities and states as the user types
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam String prefix,
+                                     @RequestParam(required = false) String type,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(hotelService.suggest(prefix, type, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // Near-duplicate hotels (Admin only): clusters linked by a shared phone or email, or by similar names
+    // in the same city or at a similar address
+    @GetMapping("/duplicates")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> getDuplicateHotels() {
+        return ResponseEntity.ok(hotelService.findDuplicateHotels());
+    }
+
     // Search hotels by name
     @GetMapping("/search")
     public ResponseEntity<List<Hotel>> searchHotels(@RequestParam String name) {
-        logger.info("Searching hotels with name: {}", name);
         List<Hotel> hotels = hotelService.searchHotelsByName(name);
-        logger.info("Found {} hotels matching search criteria", hotels.size());
         return ResponseEntity.ok(hotels);
     }
 
     // Get preferred hotels
     @GetMapping("/preferred")
     public ResponseEntity<List<Hotel>> getPreferredHotels() {
-        logger.info("Fetching preferred hotels");
         List<Hotel> hotels = hotelService.getPreferredHotels();
-        logger.info("Retrieved {} preferred hotels", hotels.size());
         return ResponseEntity.ok(hotels);
     }
 
+    // Several hotels by id in one request: GET /hotels/batch?ids=1,2,3, or POST {"ids": [...]} for long lists.
+    // Entries follow the order of the ids; unknown ids come back with found=false
+    @GetMapping("/batch")
+    public ResponseEntity<?> getHotelsByIds(@RequestParam List<Long> ids) {
+        return hotelBatch(ids);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> postHotelsByIds(@RequestBody Map<String, List<Long>> request) {
+        return hotelBatch(request.get("ids"));
+    }
+
+    private ResponseEntity<?> hotelBatch(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "ids are required"));
+        }
+        try {
+            return ResponseEntity.ok(hotelService.getHotelsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // Hotels in a city with at least `rooms` free rooms of one room type on every night from `from` up to the
+    // check-out date `to`, preferred hotels first; each with the room types that qualify and their fewest free rooms
+    @GetMapping("/available")
+    public ResponseEntity<?> getAvailableHotels(@RequestParam String city,
+                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                @RequestParam(defaultValue = "1") int rooms) {
+        try {
+            return ResponseEntity.ok(availabilityService.findAvailable(city, from, to, rooms));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // The hotel's free rooms by room type as runs of nights with the same count, from today for 90 nights by default
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<?> getAvailability(@PathVariable Long id,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(AvailabilityService.MAX_STAY_NIGHTS);
+        try {
+            return ResponseEntity.ok(Map.of("hotelId", id, "roomTypes", availabilityService.getAvailability(id, start, end)));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // Set the free rooms of room types on ranges of nights (Admin only); nights outside the ranges keep their count.
+    // Body: [{"roomType": "Deluxe", "from": "2025-12-20", "to": "2026-01-05", "rooms": 4}, ...], `to` exclusive
+    @PutMapping("/{id}/availability")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> setAvailability(@PathVariable Long id, @RequestBody List<AvailabilityRange> ranges) {
+        try {
+            return ResponseEntity.ok(Map.of("hotelId", id, "roomTypes", availabilityService.setAvailability(id, ranges)));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     // Get hotel by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getHotelById(@PathVariable Long id) {
-        logger.info("Fetching hotel with ID: {}", id);
         Optional<Hotel> hotel = hotelService.getHotelById(id);
-        
+
         if (hotel.isPresent()) {
-            logger.info("Found hotel: {}", hotel.get().getHotelName());
-            return ResponseEntity.ok(hotel.get());
+            return ResponseEntity.ok().eTag(eTag(hotel.get().getVersion())).body(hotel.get());
         } else {
-            logger.warn("Hotel with ID {} not found", id);
             return ResponseEntity.notFound().build();
         }
     }
 
-    // Update hotel details (Admin only)
+    // Update hotel details (Admin only). Rejected with 409 when the hotel changed since the version in If-Match
+    // (or, without the header, the version in the body); the new version is returned as the ETag.
     @PutMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<?> updateHotel(@PathVariable Long id, @RequestBody Hotel updatedHotel) {
+    public ResponseEntity<?> updateHotel(@PathVariable Long id, @RequestBody Hotel updatedHotel,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            return ResponseEntity.ok(hotelService.updateHotel(id, updatedHotel));
+            Hotel saved = hotelService.updateHotel(id, updatedHotel, parseETag(ifMatch));
+            return ResponseEntity.ok().eTag(eTag(saved.getVersion())).body(saved);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.warn("Concurrent update of hotel {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("message", "Hotel was modified by someone else; reload it and retry"));
         } catch (RuntimeException e) {
             logger.error("Error updating hotel: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -152,6 +268,50 @@ public class HotelController {
         }
     }
 
+    // Update only the supplied fields (Admin only). With If-Match: "<version>" the update is rejected
+    // with 412 when the hotel changed since the client read it; the new version is returned as the ETag.
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> patchHotel(@PathVariable Long id, @RequestBody Map<String, Object> fields,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            long version = hotelService.patchHotel(id, fields, parseETag(ifMatch));
+            return ResponseEntity.noContent().eTag(eTag(version)).build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(Map.of("message", "Hotel was modified by someone else; reload it and retry"));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Constraint violation patching hotel {}", id);
+            return ResponseEntity.badRequest()
+                .body(Map.of("message", "A hotel with these details already exists. Please check unique fields (hotel name, emails, phone numbers)"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // "*" or no header: no version check
+    private static Long parseETag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
     // Delete hotel (Admin only)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
@@ -160,6 +320,8 @@ public class HotelController {
             hotelService.deleteHotel(id);
             return ResponseEntity.ok()
                 .body(Map.of("message", "Hotel deleted successfully"));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             logger.error("Error deleting hotel: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -194,17 +356,11 @@ public class HotelController {
     // Add multiple hotels via CSV file (Admin only)
     @PostMapping("/upload-csv")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<?> uploadCSV(@RequestParam("file") MultipartFile file, @RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> uploadCSV(@RequestParam("file") MultipartFile file,
+                                       @RequestParam(defaultValue = "false") boolean checkDuplicates) {
         try {
-            logger.info("Received CSV upload request with file: {}, size: {}, content type: {}", 
-                file.getOriginalFilename(), file.getSize(), file.getContentType());
-            
-            // Log auth info for debugging
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                logger.info("Auth token first 20 chars: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
-            }
-            
+            logger.info("Received CSV upload: size: {}, content type: {}", file.getSize(), file.getContentType());
+
             if (file.isEmpty()) {
                 logger.warn("Uploaded file is empty");
                 return ResponseEntity.badRequest().body(Map.of("message", "Please select a file to upload"));
@@ -212,16 +368,14 @@ public class HotelController {
 
             // Check content type more flexibly
             String contentType = file.getContentType();
-            logger.info("File content type: {}", contentType);
-            
+
             if (contentType == null || !(contentType.equals("text/csv") || contentType.equals("application/vnd.ms-excel") || 
                 contentType.equals("text/plain") || contentType.contains("csv"))) {
                 logger.warn("Invalid file type: {}", contentType);
                 return ResponseEntity.badRequest().body(Map.of("message", "Only CSV files are allowed"));
             }
 
-            logger.info("Processing CSV file...");
-            List<Hotel> savedHotels = hotelService.processCSVFile(file);
+            List<Hotel> savedHotels = hotelService.processCSVFile(file, checkDuplicates);
             logger.info("Successfully processed and saved {} hotels", savedHotels.size());
             
             return ResponseEntity.ok(Map.of(
@@ -230,12 +384,31 @@ public class HotelController {
             ));
         } catch (IOException e) {
             logger.error("Error processing CSV file: {}", e.getMessage(), e);
-            e.printStackTrace();
             return ResponseEntity.badRequest()
                 .body(Map.of("message", "Error processing CSV file: " + e.getMessage()));
         } catch (Exception e) {
             logger.error("Unexpected error during CSV processing: {}", e.getMessage(), e);
-            e.printStackTrace();
+            return ResponseEntity.badRequest()
+                .body(Map.of("message", "Error processing CSV file: " + e.getMessage()));
+        }
+    }
+
+    // Set availability for many hotels via CSV file (Admin only): hotelId,roomType,from,to,rooms per line
+    @PostMapping("/availability/upload-csv")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> uploadAvailabilityCSV(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Please select a file to upload"));
+        }
+        try {
+            AvailabilityService.ImportResult result = availabilityService.importCsv(file);
+            return ResponseEntity.ok(Map.of(
+                "message", "Updated availability of " + result.hotels() + " hotels",
+                "ranges", result.ranges(),
+                "errors", result.errors()
+            ));
+        } catch (IOException e) {
+            logger.error("Error processing availability CSV file: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(Map.of("message", "Error processing CSV file: " + e.getMessage()));
         }
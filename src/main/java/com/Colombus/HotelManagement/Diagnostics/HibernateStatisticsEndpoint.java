@@ -0,0 +1,106 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/hibernate (admin only): statement totals, per-query execution counts and times from Hibernate's
+ * statistics, queries whose slowest execution crossed app.sql.slow-query-threshold, entity load counts and the
+ * per-request statement counts of RequestStatementMonitor. DELETE resets all of them.
+ */
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final Statistics statistics;
+    private final RequestStatementMonitor monitor;
+    private final long slowQueryMillis;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory, RequestStatementMonitor monitor,
+                                       @Value("${app.sql.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.monitor = monitor;
+        this.slowQueryMillis = slowQueryThreshold.toMillis();
+    }
+
+    // ?limit= caps the query list, which is ordered by total execution time
+    @ReadOperation
+    public Map<String, Object> statistics(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("since", statistics.getStart());
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("preparedStatements", statistics.getPrepareStatementCount());
+        totals.put("queryExecutions", statistics.getQueryExecutionCount());
+        totals.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        totals.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        totals.put("entityLoads", statistics.getEntityLoadCount());
+        totals.put("entityFetches", statistics.getEntityFetchCount());
+        totals.put("collectionFetches", statistics.getCollectionFetchCount());
+        totals.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        totals.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        totals.put("transactions", statistics.getTransactionCount());
+        result.put("totals", totals);
+
+        List<Map<String, Object>> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> Map.entry(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryStatistics> e) -> e.getValue().getExecutionTotalTime()).reversed())
+                .map(e -> describe(e.getKey(), e.getValue()))
+                .toList();
+        result.put("queries", queries.stream().limit(limit != null && limit > 0 ? limit : DEFAULT_LIMIT).toList());
+        result.put("slowQueryThresholdMs", slowQueryMillis);
+        result.put("slowQueries", queries.stream()
+                .filter(query -> (long) query.get("maxTimeMs") >= slowQueryMillis)
+                .toList());
+
+        Map<String, Object> entities = new LinkedHashMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entity = statistics.getEntityStatistics(entityName);
+            entities.put(entityName.substring(entityName.lastIndexOf('.') + 1), Map.of(
+                    "loads", entity.getLoadCount(),
+                    "fetches", entity.getFetchCount(),
+                    "inserts", entity.getInsertCount(),
+                    "updates", entity.getUpdateCount(),
+                    "deletes", entity.getDeleteCount()));
+        }
+        result.put("entities", entities);
+        result.put("requests", monitor.snapshot());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+        monitor.reset();
+    }
+
+    private static Map<String, Object> describe(String query, QueryStatistics stats) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("query", query);
+        description.put("executions", stats.getExecutionCount());
+        description.put("totalTimeMs", stats.getExecutionTotalTime());
+        description.put("avgTimeMs", stats.getExecutionAvgTime());
+        description.put("maxTimeMs", stats.getExecutionMaxTime());
+        description.put("rows", stats.getExecutionRowCount());
+        description.put("cacheHits", stats.getCacheHitCount());
+        return description;
+    }
+}
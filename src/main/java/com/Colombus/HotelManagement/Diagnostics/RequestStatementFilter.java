@@ -0,0 +1,35 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import com.Colombus.HotelManagement.Logging.AccessLogFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Marks the request boundaries for RequestStatementMonitor; runs just inside AccessLogFilter
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestStatementFilter extends OncePerRequestFilter {
+    private final RequestStatementMonitor monitor;
+
+    public RequestStatementFilter(RequestStatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        monitor.begin(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            monitor.end(request.getMethod(), AccessLogFilter.routeOf(request));
+        }
+    }
+}
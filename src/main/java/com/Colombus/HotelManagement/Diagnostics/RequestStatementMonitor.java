@@ -0,0 +1,148 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts the SQL statements each HTTP request sends through Hibernate (registered as its StatementInspector by
+ * SqlDiagnosticsConfig; RequestStatementFilter marks the request boundaries). A request over its statement budget,
+ * or one that repeats the same statement shape app.sql.repeated-statement-threshold times (the usual N+1 symptom),
+ * is logged as a warning with its route and the most repeated statement. Statements outside a request
+ * (startup, scheduled jobs) are not counted.
+ */
+@Component
+public class RequestStatementMonitor implements StatementInspector {
+    private static final Logger logger = LoggerFactory.getLogger(RequestStatementMonitor.class);
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+    private static final int RECENT_OFFENDERS = 20;
+
+    private final int budget;
+    private final int repeatedThreshold;
+    private final boolean failOverBudget;
+    private final List<String> exemptPaths;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder repeated = new LongAdder();
+    private final AtomicInteger maxStatements = new AtomicInteger();
+    private final Deque<Offender> recentOffenders = new ArrayDeque<>();
+    private final Lock offendersLock = new ReentrantLock();
+
+    public RequestStatementMonitor(@Value("${app.sql.statement-budget:30}") int budget,
+                                   @Value("${app.sql.repeated-statement-threshold:10}") int repeatedThreshold,
+                                   @Value("${app.sql.fail-over-budget:false}") boolean failOverBudget,
+                                   @Value("${app.sql.budget-exempt-paths:}") List<String> exemptPaths) {
+        this.budget = budget;
+        this.repeatedThreshold = repeatedThreshold;
+        this.failOverBudget = failOverBudget;
+        this.exemptPaths = exemptPaths;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements current = CURRENT.get();
+        if (current != null && current.add(sql) == current.budget() + 1 && failOverBudget) {
+            throw new StatementBudgetExceededException(current.budget(), RequestStatements.shapeOf(sql));
+        }
+        return sql;
+    }
+
+    // Bulk endpoints listed in app.sql.budget-exempt-paths are not tracked at all
+    void begin(String path) {
+        if (exemptPaths.stream().noneMatch(prefix -> !prefix.isBlank() && path.startsWith(prefix))) {
+            CURRENT.set(new RequestStatements(budget));
+        }
+    }
+
+    void end(String method, Object route) {
+        RequestStatements current = CURRENT.get();
+        CURRENT.remove();
+        if (current == null) {
+            return;
+        }
+        int count = current.count();
+        requests.increment();
+        statements.add(count);
+        maxStatements.accumulateAndGet(count, Math::max);
+
+        boolean over = count > current.budget();
+        Map.Entry<String, Integer> mostRepeated = count >= repeatedThreshold ? current.mostRepeated() : null;
+        boolean repeats = mostRepeated != null && mostRepeated.getValue() >= repeatedThreshold;
+        if (!over && !repeats) {
+            return;
+        }
+        if (over) {
+            overBudget.increment();
+        }
+        if (repeats) {
+            repeated.increment();
+        }
+        if (mostRepeated == null) {
+            mostRepeated = current.mostRepeated();
+        }
+        logger.warn("{} {} issued {} SQL statements (budget {}); most repeated {}x: {}", method, route, count,
+                current.budget(), mostRepeated.getValue(), mostRepeated.getKey());
+
+        offendersLock.lock();
+        try {
+            if (recentOffenders.size() == RECENT_OFFENDERS) {
+                recentOffenders.removeFirst();
+            }
+            recentOffenders.addLast(new Offender(method + " " + route, count, mostRepeated.getValue(), mostRepeated.getKey()));
+        } finally {
+            offendersLock.unlock();
+        }
+    }
+
+    Map<String, Object> snapshot() {
+        List<Offender> offenders;
+        offendersLock.lock();
+        try {
+            offenders = new ArrayList<>(recentOffenders);
+        } finally {
+            offendersLock.unlock();
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("budget", budget);
+        snapshot.put("repeatedStatementThreshold", repeatedThreshold);
+        snapshot.put("requests", requests.sum());
+        snapshot.put("statements", statements.sum());
+        snapshot.put("maxStatementsPerRequest", maxStatements.get());
+        snapshot.put("requestsOverBudget", overBudget.sum());
+        snapshot.put("requestsWithRepeatedStatements", repeated.sum());
+        snapshot.put("recentOffenders", offenders.reversed());
+        return snapshot;
+    }
+
+    void reset() {
+        requests.reset();
+        statements.reset();
+        overBudget.reset();
+        repeated.reset();
+        maxStatements.set(0);
+        offendersLock.lock();
+        try {
+            recentOffenders.clear();
+        } finally {
+            offendersLock.unlock();
+        }
+    }
+
+    record Offender(String route, int statements, int repeats, String repeatedStatement) {
+    }
+}
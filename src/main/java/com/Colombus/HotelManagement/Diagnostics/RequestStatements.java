@@ -0,0 +1,51 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Statements issued by one request, counted per shape; only ever touched by the request's thread
+final class RequestStatements {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // IN lists of different lengths are the same statement shape
+    private static final Pattern BIND_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final int MAX_SHAPES = 256;
+    private static final int MAX_SHAPE_LENGTH = 500;
+
+    private final int budget;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int count;
+
+    RequestStatements(int budget) {
+        this.budget = budget;
+    }
+
+    int budget() {
+        return budget;
+    }
+
+    // Returns the number of statements so far, this one included
+    int add(String sql) {
+        count++;
+        if (shapes.size() < MAX_SHAPES || shapes.containsKey(sql)) {
+            shapes.merge(sql, 1, Integer::sum);
+        }
+        return count;
+    }
+
+    int count() {
+        return count;
+    }
+
+    // The statement issued most often, as a shape with bind markers, or null when nothing ran
+    Map.Entry<String, Integer> mostRepeated() {
+        Map<String, Integer> byShape = new HashMap<>();
+        shapes.forEach((sql, n) -> byShape.merge(shapeOf(sql), n, Integer::sum));
+        return byShape.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    static String shapeOf(String sql) {
+        String shape = BIND_LIST.matcher(WHITESPACE.matcher(sql).replaceAll(" ").trim()).replaceAll("(?, ...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
@@ -0,0 +1,27 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Replaces spring.jpa.show-sql: statements are no longer printed, instead Hibernate logs those slower than
+ * app.sql.slow-query-threshold to the org.hibernate.SQL_SLOW logger (SQL with its bind markers, never the values)
+ * and every statement is counted per request by RequestStatementMonitor. Per-query timings are in /actuator/hibernate.
+ */
+@Configuration
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlDiagnosticsCustomizer(RequestStatementMonitor monitor,
+                                                                  @Value("${app.sql.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, monitor);
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryThreshold.toMillis());
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+// Thrown in strict mode (app.sql.fail-over-budget=true, meant for CI) when one request issues more statements than its budget
+public class StatementBudgetExceededException extends RuntimeException {
+    public StatementBudgetExceededException(int budget, String statement) {
+        super("Request exceeded its budget of " + budget + " SQL statements at: " + statement);
+    }
+}
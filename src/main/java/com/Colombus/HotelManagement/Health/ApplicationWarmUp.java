@@ -0,0 +1,174 @@
+package com.Colombus.HotelManagement.Health;
+
+import com.Colombus.HotelManagement.Catalog.HotelCatalog;
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Security.JwtUtil;
+import com.Colombus.HotelManagement.Services.AvailabilityService;
+import com.Colombus.HotelManagement.Services.HotelService;
+import com.Colombus.HotelManagement.Services.UserAvailabilityFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * One-off work after startup, so that the first real requests are not the slow ones: tokens are signed and parsed
+ * until the JWT and signature classes are loaded, the hotel catalog, the username/email filter and the room
+ * availability calendars are awaited, and the queries behind the hot read endpoints are run app.warmup.requests
+ * times each and serialized with the application's ObjectMapper (services, Hibernate and its second-level cache,
+ * Jackson) so the JIT compiles them. They are called in-process rather than over HTTP, so warm-up needs no account and
+ * leaves nothing in the access log or audit trail.
+ * WarmUpHealthIndicator keeps readiness OUT_OF_SERVICE until every step has finished. All steps together are bounded
+ * by app.warmup.timeout; a step that fails or runs out of time is reported and does not hold readiness back.
+ */
+@Component
+public class ApplicationWarmUp {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationWarmUp.class);
+    // Subject of the tokens signed to prime the JWT classes, which never leave the process; not an account
+    private static final String WARM_UP_SUBJECT = "warm-up";
+    private static final int JWT_ITERATIONS = 2000;
+
+    private final JwtUtil jwtUtil;
+    private final HotelCatalog hotelCatalog;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final AvailabilityService availabilityService;
+    private final HotelService hotelService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int requests;
+    private final Duration timeout;
+    // Step name -> result, in the order the steps ran; replaced as a whole by the warm-up thread
+    private volatile Map<String, Step> steps = Map.of();
+    private volatile boolean finished;
+    private long deadline;
+
+    public record Step(String outcome, long millis) {
+    }
+
+    public ApplicationWarmUp(JwtUtil jwtUtil, HotelCatalog hotelCatalog, UserAvailabilityFilter availabilityFilter,
+                             AvailabilityService availabilityService, HotelService hotelService,
+                             ObjectMapper objectMapper,
+                             @Value("${app.warmup.enabled:true}") boolean enabled,
+                             @Value("${app.warmup.requests:20}") int requests,
+                             @Value("${app.warmup.timeout:60s}") Duration timeout) {
+        this.jwtUtil = jwtUtil;
+        this.hotelCatalog = hotelCatalog;
+        this.availabilityFilter = availabilityFilter;
+        this.availabilityService = availabilityService;
+        this.hotelService = hotelService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.requests = requests;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            finished = true;
+            return;
+        }
+        Thread.ofVirtual().name("warm-up").start(this::run);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public Map<String, Step> steps() {
+        return steps;
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        deadline = start + timeout.toNanos();
+        step("jwt", this::primeJwt);
+        step("catalog", () -> await(hotelCatalog::isLoaded));
+        step("availabilityFilter", () -> await(availabilityFilter::isBuilt));
+        step("roomCalendars", () -> await(availabilityService::isLoaded));
+        step("reads", this::primeReads);
+        finished = true;
+        logger.info("Warm-up finished in {} ms: {}", (System.nanoTime() - start) / 1_000_000, steps());
+    }
+
+    private void step(String name, Supplier<String> work) {
+        long start = System.nanoTime();
+        String outcome;
+        try {
+            outcome = work.get();
+        } catch (RuntimeException e) {
+            outcome = "failed: " + e.getMessage();
+            logger.warn("Warm-up step {} failed: {}", name, e.getMessage());
+        }
+        Map<String, Step> next = new LinkedHashMap<>(steps);
+        next.put(name, new Step(outcome, (System.nanoTime() - start) / 1_000_000));
+        steps = Collections.unmodifiableMap(next);
+    }
+
+    private String primeJwt() {
+        String token = warmUpToken();
+        for (int i = 0; i < JWT_ITERATIONS; i++) {
+            jwtUtil.extractUsername(token);
+        }
+        return "done";
+    }
+
+    private String await(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                return "timed out";
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "interrupted";
+            }
+        }
+        return "done";
+    }
+
+    // What GET /hotels/all, /preferred, /search, /search/city, /suggest and /nearby run, down to the JSON
+    private String primeReads() {
+        List<Supplier<Object>> reads = List.of(
+                hotelService::getAllHotels,
+                hotelService::getPreferredHotels,
+                () -> hotelService.searchHotelsByName("hotel"),
+                () -> hotelService.searchHotelsByCity("mumbai"),
+                () -> hotelService.suggest("mum", null, 10),
+                () -> hotelService.findNearbyHotels(19.076, 72.878, 10, 20));
+        int calls = 0;
+        try {
+            for (int i = 0; i < requests; i++) {
+                for (Supplier<Object> read : reads) {
+                    if (System.nanoTime() - deadline > 0) {
+                        return "timed out after " + calls + " calls";
+                    }
+                    objectMapper.writeValueAsBytes(read.get());
+                    calls++;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return calls + " calls";
+    }
+
+    private String warmUpToken() {
+        User user = User.named(WARM_UP_SUBJECT);
+        user.setRole("USER");
+        return jwtUtil.generateToken(user);
+    }
+}
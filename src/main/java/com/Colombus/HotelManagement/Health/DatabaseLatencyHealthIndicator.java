@@ -0,0 +1,161 @@
+package com.Colombus.HotelManagement.Health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "databaseLatency" in the readiness group: borrows a connection from each Hikari pool (the primary, and the replica
+ * when one is configured) and runs SELECT 1, timing both. The pools are probed directly rather than through the
+ * application DataSource, whose lazy proxy hands out a connection handle without touching a pool. Results are reused
+ * for app.health.db.probe-interval, so frequent health checks add no load.
+ *
+ * The instance is OUT_OF_SERVICE until every pool has completed one probe within app.health.db.latency-threshold.
+ * After that a slow probe is only reported, since every instance shares the database and taking them all out would
+ * not help. A saturated pool is not probed (it would queue behind the requests); its last result is reported with
+ * poolSaturated=true and readiness is kept. A failing probe is DOWN.
+ */
+@Component
+public class DatabaseLatencyHealthIndicator implements HealthIndicator {
+    private static final int QUERY_TIMEOUT_SECONDS = 5;
+
+    private final ObjectProvider<HikariDataSource> pools;
+    private final Duration latencyThreshold;
+    private final Duration probeInterval;
+    private final Lock probeLock = new ReentrantLock();
+    // Latest probe of each pool by pool name; replaced as a whole
+    private volatile Map<String, Probe> lastProbes = Map.of();
+    private volatile boolean passed;
+
+    private record Probe(long atNanos, long acquireNanos, long queryNanos, String error) {
+        long totalNanos() {
+            return acquireNanos + queryNanos;
+        }
+    }
+
+    public DatabaseLatencyHealthIndicator(ObjectProvider<HikariDataSource> pools,
+                                          @Value("${app.health.db.latency-threshold:250ms}") Duration latencyThreshold,
+                                          @Value("${app.health.db.probe-interval:2s}") Duration probeInterval) {
+        this.pools = pools;
+        this.latencyThreshold = latencyThreshold;
+        this.probeInterval = probeInterval;
+    }
+
+    @Override
+    public Health health() {
+        List<HikariDataSource> all = pools.orderedStream().toList();
+        Set<String> saturated = new HashSet<>();
+        for (HikariDataSource pool : all) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean != null && bean.getIdleConnections() == 0 && bean.getActiveConnections() >= pool.getMaximumPoolSize()) {
+                saturated.add(pool.getPoolName());
+            }
+        }
+
+        Map<String, Probe> probes = lastProbes;
+        long now = System.nanoTime();
+        List<HikariDataSource> due = all.stream()
+                .filter(pool -> !saturated.contains(pool.getPoolName()))
+                .filter(pool -> {
+                    Probe probe = lastProbes.get(pool.getPoolName());
+                    return probe == null || now - probe.atNanos() > probeInterval.toNanos();
+                })
+                .toList();
+        // Health checks arriving while a probe runs report the previous results instead of queueing for a connection
+        if (!due.isEmpty() && probeLock.tryLock()) {
+            try {
+                Map<String, Probe> fresh = new LinkedHashMap<>(lastProbes);
+                for (HikariDataSource pool : due) {
+                    fresh.put(pool.getPoolName(), probe(pool));
+                }
+                probes = Map.copyOf(fresh);
+                lastProbes = probes;
+            } finally {
+                probeLock.unlock();
+            }
+        }
+
+        Map<String, Object> poolDetails = new LinkedHashMap<>();
+        boolean pending = false;
+        String error = null;
+        boolean slow = false;
+        for (HikariDataSource pool : all) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean != null) {
+                details.put("active", bean.getActiveConnections());
+                details.put("idle", bean.getIdleConnections());
+                details.put("max", pool.getMaximumPoolSize());
+                details.put("awaiting", bean.getThreadsAwaitingConnection());
+            }
+            details.put("saturated", saturated.contains(pool.getPoolName()));
+            Probe probe = probes.get(pool.getPoolName());
+            if (probe == null) {
+                pending = true;
+                details.put("probe", "pending");
+            } else {
+                details.put("acquireMs", millis(probe.acquireNanos()));
+                details.put("queryMs", millis(probe.queryNanos()));
+                details.put("probedMsAgo", (System.nanoTime() - probe.atNanos()) / 1_000_000);
+                if (probe.error() != null) {
+                    details.put("error", probe.error());
+                    error = error != null ? error : pool.getPoolName() + ": " + probe.error();
+                }
+                slow |= probe.totalNanos() > latencyThreshold.toNanos();
+            }
+            poolDetails.put(pool.getPoolName(), details);
+        }
+
+        Health.Builder health;
+        if (error != null) {
+            health = Health.down().withDetail("error", error);
+        } else if (pending) {
+            health = Health.outOfService().withDetail("probe", "pending");
+        } else {
+            passed |= !slow;
+            health = passed ? Health.up() : Health.outOfService();
+        }
+        return health
+                .withDetail("slow", slow)
+                .withDetail("thresholdMs", latencyThreshold.toMillis())
+                .withDetail("poolSaturated", !saturated.isEmpty())
+                .withDetail("pools", poolDetails)
+                .build();
+    }
+
+    private static Probe probe(HikariDataSource pool) {
+        long start = System.nanoTime();
+        long acquired = start;
+        try (Connection connection = pool.getConnection()) {
+            acquired = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                statement.execute("SELECT 1");
+            }
+            return new Probe(start, acquired - start, System.nanoTime() - acquired, null);
+        } catch (SQLException | RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new Probe(start, acquired - start, System.nanoTime() - acquired, error);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
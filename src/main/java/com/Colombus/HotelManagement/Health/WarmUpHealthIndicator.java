@@ -0,0 +1,28 @@
+package com.Colombus.HotelManagement.Health;
+
+import com.Colombus.HotelManagement.Catalog.HotelCatalog;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// "warmUp" in the readiness group: OUT_OF_SERVICE until ApplicationWarmUp has finished, with the time of each step
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+    private final ApplicationWarmUp warmUp;
+    private final HotelCatalog hotelCatalog;
+
+    public WarmUpHealthIndicator(ApplicationWarmUp warmUp, HotelCatalog hotelCatalog) {
+        this.warmUp = warmUp;
+        this.hotelCatalog = hotelCatalog;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = warmUp.isFinished() ? Health.up() : Health.outOfService();
+        return health
+                .withDetail("steps", warmUp.steps())
+                // A catalog restored from a snapshot serves while it is reconciled with the database
+                .withDetail("catalogReconciled", hotelCatalog.isReconciled())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.Colombus.HotelManagement.Logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes exactly one access-log event per request to the "ACCESS" logger.
+ * Only the route pattern is logged (never the raw URI, query string or headers), so path variables,
+ * tokens and other PII stay out of the logs.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    // Set by the JWT filter once a request is authenticated
+    public static final String USER_ATTRIBUTE = AccessLogFilter.class.getName() + ".user";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+    private static final String ANONYMOUS = "-";
+
+    private final double debugSampleRate;
+
+    public AccessLogFilter(@Value("${logging.sampling.debug-rate:0.0}") double debugSampleRate) {
+        this.debugSampleRate = debugSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        LogSampling.begin(debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate);
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            LogSampling.end();
+            if (accessLog.isInfoEnabled()) {
+                Object user = request.getAttribute(USER_ATTRIBUTE);
+                accessLog.info("method={} path={} status={} user={} latencyMicros={}",
+                        request.getMethod(),
+                        routeOf(request),
+                        status,
+                        user != null ? user : ANONYMOUS,
+                        (System.nanoTime() - start) / 1_000);
+            }
+        }
+    }
+
+    // Prefer the matched handler pattern ("/hotels/{id}") over the concrete URI
+    public static Object routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern : request.getRequestURI();
+    }
+}
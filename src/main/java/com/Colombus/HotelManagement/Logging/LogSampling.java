@@ -0,0 +1,27 @@
+package com.Colombus.HotelManagement.Logging;
+
+import org.slf4j.Logger;
+
+/**
+ * Per-request sampling decision for debug detail.
+ * The decision is made once by {@link AccessLogFilter} and read by any code that wants to emit debug logs.
+ */
+public final class LogSampling {
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+    private LogSampling() {
+    }
+
+    // True only when debug is enabled for the logger AND the current request was picked for sampling
+    public static boolean isSampled(Logger logger) {
+        return logger.isDebugEnabled() && Boolean.TRUE.equals(SAMPLED.get());
+    }
+
+    static void begin(boolean sampled) {
+        SAMPLED.set(sampled);
+    }
+
+    static void end() {
+        SAMPLED.remove();
+    }
+}
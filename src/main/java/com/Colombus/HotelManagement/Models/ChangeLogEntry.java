@@ -0,0 +1,39 @@
+package com.Colombus.HotelManagement.Models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+// One row per committed write; the id is the change version clients sync from.
+// Deletes stay here as tombstones after the entity row is gone. Other instances poll it to invalidate their caches.
+@Entity
+@Data
+@Table(name = "change_log")
+public class ChangeLogEntry {
+    public static final String HOTEL = "hotel";
+    public static final String USER = "user";
+    public static final String AVAILABILITY = "availability"; // entityId is the hotel whose calendars changed
+    public static final String GAP = "gap"; // Claims a version that was rolled back; carries no change
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId; // Filled in after the insert for new entities
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(length = 64)
+    private String origin; // Node id of the instance that wrote the entry
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private Instant changedAt;
+}
@@ -1,11 +1,16 @@
 package com.Colombus.HotelManagement.Models;
 
+import com.Colombus.HotelManagement.Config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
 @Table(name="hotels")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HOTELS)
 public class Hotel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,6 +48,17 @@ public class Hotel {
     @Column(nullable = false)
     private String state;
 
+    private Double latitude; // From the gazetteer entry for city and state, see Gazetteer
+
+    private Double longitude;
+
+    @Version
+    @Column(nullable = false)
+    private Long version; // Optimistic locking; sent to clients as the ETag
+
+    @Column(name = "change_version")
+    private Long changeVersion; // Id of the hotel's latest change_log entry, see GET /hotels/changes
+
     // Getters and Setters
     public String getWebsite() {
         return website;
@@ -0,0 +1,32 @@
+package com.Colombus.HotelManagement.Models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// One run of a room availability calendar: the nights from startDate up to (not including) endDate all have the
+// same number of free rooms of the room type. Served from HotelAvailabilityIndex, so not in the second-level cache.
+@Entity
+@Data
+@Table(name = "room_availability")
+public class RoomAvailability {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "room_type", nullable = false, length = 64)
+    private String roomType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate; // Exclusive: the check-out date of a stay over the whole run
+
+    @Column(nullable = false)
+    private int rooms;
+}
@@ -1,12 +1,40 @@
 package com.Colombus.HotelManagement.Models;
 
+import com.Colombus.HotelManagement.Config.CacheRegions;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
 @Data
-@Table(name="users")
+@Table(name="users", uniqueConstraints = {
+        // Named so registration can map a violation back to the offending field
+        @UniqueConstraint(name = User.UK_CONTACT_NUMBER, columnNames = "contact_number"),
+        @UniqueConstraint(name = User.UK_MOBILE_NUMBER, columnNames = "mobile_number"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_USER_NAME, columnNames = "user_name"),
+        @UniqueConstraint(name = User.UK_USER_NAME_KEY, columnNames = "user_name_key")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
+@NaturalIdCache(region = CacheRegions.USER_NATURAL_IDS)
 public class User {
+    public static final String UK_CONTACT_NUMBER = "uk_users_contact_number";
+    public static final String UK_MOBILE_NUMBER = "uk_users_mobile_number";
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_USER_NAME = "uk_users_user_name";
+    public static final String UK_USER_NAME_KEY = "uk_users_user_name_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -17,18 +45,29 @@ public class User {
     @Column(nullable = false)
     private String address;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String contactNumber;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String mobileNumber;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false, unique = true)
+    // Fixed once the user is created: it derives the natural id below, which cannot change. Set through named(), or
+    // by Jackson through the field when a registration is read
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
     private String userName;
 
+    // Natural id: userName folded the way the MySQL collation compares it, so "Alice" and "alice" resolve to the
+    // same row on every database and share one natural-id cache entry
+    @NaturalId
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "user_name_key", nullable = false, updatable = false)
+    private String userNameKey;
+
     @Column(nullable = false)
     private String password;  // Will be stored as a hashed value
 
@@ -50,4 +89,22 @@ public class User {
     @Column(nullable = false)
     private boolean approved = false; // Default is false until admin approves
 
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt; // Registration time, used to order the approval queue
+
+    public static User named(String userName) {
+        User user = new User();
+        user.userName = userName;
+        return user;
+    }
+
+    @PrePersist
+    void deriveUserNameKey() {
+        userNameKey = userNameKey(userName);
+    }
+
+    public static String userNameKey(String userName) {
+        return userName == null ? null : userName.toLowerCase(Locale.ROOT);
+    }
 }
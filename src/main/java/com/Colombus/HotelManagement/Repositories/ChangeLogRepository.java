@@ -0,0 +1,54 @@
+package com.Colombus.HotelManagement.Repositories;
+
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    // Entries after a version, up to the highest version below which every entry has committed
+    @Query("select c from ChangeLogEntry c where c.entityType = :type and c.id > :since and c.id <= :upTo order by c.id")
+    List<ChangeLogEntry> findCommittedSince(@Param("type") String entityType, @Param("since") long since,
+                                            @Param("upTo") long upTo, Limit limit);
+
+    // Entries for which a newer entry of the same entity exists; they no longer tell a client anything
+    @Query("select c.id from ChangeLogEntry c where c.entityType = :type and exists ("
+            + "select n.id from ChangeLogEntry n where n.entityType = c.entityType and n.entityId = c.entityId and n.id > c.id)")
+    List<Long> findSupersededIds(@Param("type") String entityType, Limit limit);
+
+    // Entries of every type after a version, for the cluster invalidation poller
+    @Query("select c from ChangeLogEntry c where c.id > :after order by c.id")
+    List<ChangeLogEntry> findAfter(@Param("after") long after, Limit limit);
+
+    // Ids only, for tracking which versions have committed
+    @Query("select c.id from ChangeLogEntry c where c.id > :after order by c.id")
+    List<Long> findIdsAfter(@Param("after") long after, Limit limit);
+
+    @Query("select c.id from ChangeLogEntry c where c.id in :ids")
+    List<Long> findIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id from ChangeLogEntry c where c.entityType = :type")
+    List<Long> findIdsByEntityType(@Param("type") String entityType, Limit limit);
+
+    @Query("select max(c.id) from ChangeLogEntry c")
+    Optional<Long> findLatestId();
+
+    // Claims a missing version with an entry that carries no change. The primary key makes this fail while the
+    // transaction holding the version is open (after waiting at most a second) and once it has committed.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = "1"))
+    @Query(value = "insert into change_log (id, entity_type, deleted, origin, changed_at) "
+            + "values (:id, :type, false, :origin, current_timestamp)", nativeQuery = true)
+    int insertFiller(@Param("id") long id, @Param("type") String entityType, @Param("origin") String origin);
+}
@@ -1,21 +1,66 @@
 package com.Colombus.HotelManagement.Repositories;
 
+import com.Colombus.HotelManagement.Config.CacheRegions;
 import com.Colombus.HotelManagement.Models.Hotel;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
+// Finder results go to the query cache; Hibernate invalidates them whenever the hotels table is written. Finders run
+// through ReplicaReads only read the cache, so a lagging replica never populates it
 @Repository
-public interface HotelRepository extends JpaRepository<Hotel,Long> {
-    List<Hotel> findByHotelNameContainingIgnoreCase(String hotelName);
+public interface HotelRepository extends JpaRepository<Hotel,Long>, HotelRepositoryCustom {
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
+    List<Hotel> findAll();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
+    List<Hotel> findByHotelNameContainingIgnoreCase(String hotelName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
     List<Hotel> findByPreferredTrue();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
     List<Hotel> findByCityContainingIgnoreCase(String city);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
     List<Hotel> findByStateContainingIgnoreCase(String state);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.HOTEL_QUERIES)
+    })
     List<Hotel> findByCityContainingIgnoreCaseAndStateContainingIgnoreCase(String city, String state);
+
+    // Holds the hotel row until the transaction ends, so writes to the hotel's availability apply one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from Hotel h where h.id = :id")
+    Optional<Hotel> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select h.id as id, h.version as version, h.changeVersion as changeVersion from Hotel h")
+    List<HotelVersion> findAllVersions();
 }
@@ -0,0 +1,17 @@
+package com.Colombus.HotelManagement.Repositories;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.util.List;
+import java.util.Map;
+
+public interface HotelRepositoryCustom {
+    // Hotels in the order of the ids, null where an id does not exist. Hotels in the second-level cache are
+    // taken from it; the rest are loaded with IN queries.
+    List<Hotel> findAllByIdInOrder(List<Long> ids);
+
+    // Single UPDATE of the given columns and version + 1, without loading the row first.
+    // With an expected version the row only matches while it still has that version.
+    // Returns the number of rows updated (0 when the hotel is missing or the version moved on).
+    int patchHotel(Long id, Map<String, Object> values, Long expectedVersion);
+}
@@ -0,0 +1,54 @@
+package com.Colombus.HotelManagement.Repositories;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+class HotelRepositoryCustomImpl implements HotelRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Hotel> findAllByIdInOrder(List<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Hotel.class)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+
+    @Override
+    @Transactional
+    public int patchHotel(Long id, Map<String, Object> values, Long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Hotel> update = cb.createCriteriaUpdate(Hotel.class);
+        Root<Hotel> hotel = update.from(Hotel.class);
+
+        values.forEach((attribute, value) -> {
+            Path<Object> path = hotel.get(attribute);
+            if (value == null) {
+                update.set(path, cb.nullLiteral(path.getJavaType()));
+            } else {
+                update.set(path, value);
+            }
+        });
+        update.set(hotel.<Long>get("version"), cb.sum(hotel.<Long>get("version"), 1L));
+
+        Predicate where = cb.equal(hotel.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(hotel.get("version"), expectedVersion));
+        }
+        update.where(where);
+        // Hibernate invalidates the hotels cache regions for bulk updates
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,10 @@
+package com.Colombus.HotelManagement.Repositories;
+
+// Projection of a hotel's modification versions, for reconciling a local copy without loading full rows
+public interface HotelVersion {
+    Long getId();
+
+    Long getVersion();
+
+    Long getChangeVersion();
+}
@@ -0,0 +1,27 @@
+package com.Colombus.HotelManagement.Repositories;
+
+import com.Colombus.HotelManagement.Models.RoomAvailability;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomAvailabilityRepository extends JpaRepository<RoomAvailability, Long> {
+    List<RoomAvailability> findByHotelId(Long hotelId);
+
+    List<RoomAvailability> findByHotelIdIn(Collection<Long> hotelIds);
+
+    // Pages of the hotels that have calendars, for loading them at startup
+    @Query("select distinct a.hotelId from RoomAvailability a where a.hotelId > :after order by a.hotelId")
+    List<Long> findHotelIdsAfter(@Param("after") long after, Limit limit);
+
+    @Modifying
+    @Query("delete from RoomAvailability a where a.hotelId = :hotelId and a.roomType in :roomTypes")
+    int deleteByHotelIdAndRoomTypes(@Param("hotelId") Long hotelId, @Param("roomTypes") Collection<String> roomTypes);
+}
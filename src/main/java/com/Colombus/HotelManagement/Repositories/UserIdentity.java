@@ -0,0 +1,10 @@
+package com.Colombus.HotelManagement.Repositories;
+
+// Projection of the unique lookup keys of a user, without loading the full entity
+public interface UserIdentity {
+    Long getId();
+
+    String getUserName();
+
+    String getEmail();
+}
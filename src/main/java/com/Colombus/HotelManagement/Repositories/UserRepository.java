@@ -1,19 +1,71 @@
 package com.Colombus.HotelManagement.Repositories;
 
+import com.Colombus.HotelManagement.Config.CacheRegions;
 import com.Colombus.HotelManagement.Models.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User,Long> {
+public interface UserRepository extends JpaRepository<User,Long>, UserRepositoryCustom {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_QUERIES)
+    })
     Optional<User> findByUserName(String userName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_QUERIES)
+    })
     boolean existsByEmail(String email);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_QUERIES)
+    })
     boolean existsByUserName(String userName);
+
+    boolean existsByContactNumber(String contactNumber);
+
+    boolean existsByMobileNumber(String mobileNumber);
     
-    List<User> findByApprovedFalse();
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_QUERIES)
+    }, forCounting = true)
+    Page<User> findByApprovedFalse(Pageable pageable);
+
+    // Locks the rows until the transaction ends, so concurrent bulk approvals and rejections of the same users wait
+    // for each other and each user is handled once; in id order, so they cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.approved = false and u.id in :ids order by u.id")
+    List<User> findPendingForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.id as id, u.userName as userName, u.email as email from User u")
+    List<UserIdentity> findAllIdentities();
+
+    @Query("select u.id as id, u.userName as userName, u.email as email from User u where u.id in :ids")
+    List<UserIdentity> findIdentitiesByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.approved = true where u.approved = false and u.id in :ids")
+    int approvePendingByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from User u where u.approved = false and u.id in :ids")
+    int deletePendingByIds(@Param("ids") Collection<Long> ids);
 }
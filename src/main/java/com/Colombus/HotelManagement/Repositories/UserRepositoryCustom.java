@@ -0,0 +1,10 @@
+package com.Colombus.HotelManagement.Repositories;
+
+import com.Colombus.HotelManagement.Models.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    // Natural-id lookup: served from the second-level cache without a query when the user is cached
+    Optional<User> findByNaturalUserName(String userName);
+}
@@ -0,0 +1,70 @@
+package com.Colombus.HotelManagement.Security;
+
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Services.UserService;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Optional;
+
+// Loads users for JWT validation and the AuthenticationManager; kept out of SecurityConfig so that
+// SecurityConfig has no dependency on the service layer
+@Service
+public class AppUserDetailsService implements UserDetailsService {
+    private static final String ADMIN_USER_NAME = "ADMIN1";
+    private static final String ADMIN_PASSWORD = "password";
+
+    private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    // BCrypt hash of the hardcoded admin password, computed on first use instead of on every request
+    private volatile String adminPasswordHash;
+
+    public AppUserDetailsService(UserService userService, PasswordEncoder passwordEncoder) {
+        this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // First check for our hardcoded admin user
+        if (ADMIN_USER_NAME.equals(username)) {
+            return org.springframework.security.core.userdetails.User.withUsername(ADMIN_USER_NAME)
+                    .password(adminPasswordHash())
+                    .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                    .build();
+        }
+
+        // For all other users, load from the database
+        Optional<User> userOpt = userService.getUserByUserName(username);
+        if (userOpt.isPresent()) {
+            User user = userOpt.get();
+            // Ensure role is properly prefixed with ROLE_
+            String role = user.getRole();
+            if (!role.startsWith("ROLE_")) {
+                role = "ROLE_" + role;
+            }
+
+            return org.springframework.security.core.userdetails.User.withUsername(user.getUserName())
+                    .password(user.getPassword()) // Password is already encoded in the database
+                    .authorities(Collections.singletonList(new SimpleGrantedAuthority(role)))
+                    .build();
+        }
+
+        throw new UsernameNotFoundException("User not found: " + username);
+    }
+
+    private String adminPasswordHash() {
+        String hash = adminPasswordHash;
+        if (hash == null) {
+            // Racing threads may each compute a hash; any of them is valid
+            hash = passwordEncoder.encode(ADMIN_PASSWORD);
+            adminPasswordHash = hash;
+        }
+        return hash;
+    }
+}
@@ -1,5 +1,7 @@
 package com.Colombus.HotelManagement.Security;
 
+import com.Colombus.HotelManagement.Logging.AccessLogFilter;
+import com.Colombus.HotelManagement.Logging.LogSampling;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,107 +24,97 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final StreamTickets streamTickets;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, StreamTickets streamTickets) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.streamTickets = streamTickets;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            String path = request.getRequestURI();
-            String method = request.getMethod();
-            String authHeader = request.getHeader("Authorization");
-            
-            // Fully log request details
-            logger.info("================= REQUEST DETAILS =================");
-            logger.info("Processing request: {} {}", method, path);
-            logger.info("Authorization header: {}", authHeader);
-            logger.info("Query string: {}", request.getQueryString());
-            
-            // Skip token validation for OPTIONS requests and public endpoints
-            if (method.equals("OPTIONS") || path.startsWith("/auth/login") || 
-                path.startsWith("/auth/register") || path.startsWith("/auth/check-user") ||
-                path.startsWith("/auth/validate") || path.equals("/error")) {
-                logger.info("Skipping authentication for path: {}", path);
-                filterChain.doFilter(request, response);
-                return;
-            }
+        String path = request.getRequestURI();
+        String method = request.getMethod();
 
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
+        // Skip token validation for OPTIONS requests and public endpoints
+        if (method.equals("OPTIONS") || path.startsWith("/auth/login") ||
+            path.startsWith("/auth/register") || path.startsWith("/auth/check-user") ||
+            path.startsWith("/auth/check-availability") ||
+            path.startsWith("/auth/validate") || path.equals("/error") ||
+            path.equals("/actuator/prometheus")) { // Carries the scrape token, not a JWT
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-                logger.info("Token found - Username: {}, Role: {}", username, role);
+        try {
+            String token = bearerToken(request);
+            String ticket = token == null && StreamTickets.STREAM_PATHS.contains(path)
+                    ? request.getParameter(StreamTickets.PARAMETER) : null;
+            if (ticket != null && !ticket.isBlank()) {
+                authenticateTicket(request, ticket, path);
+            } else if (token != null) {
+                String username = jwtUtil.extractUsername(token);
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     try {
-                        logger.info("Loading user details for: {}", username);
                         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                        logger.info("User details loaded successfully from service: {}", username);
-                        logger.info("User authorities: {}", userDetails.getAuthorities());
-                        
+
                         if (jwtUtil.validateToken(token, userDetails)) {
-                            logger.info("Token validated successfully for user: {}", username);
-                            
                             // Create authentication with the exact authorities from userDetails
                             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                                     userDetails, 
                                     null, 
                                     userDetails.getAuthorities()
                             );
-                            
-                            logger.info("Setting authentication with authorities: {}", userDetails.getAuthorities());
                             SecurityContextHolder.getContext().setAuthentication(authentication);
-                            logger.info("Authentication set successfully for user: {}", username);
-                            
-                            // Add diagnostic information for pending-approvals endpoint
-                            if (path.contains("/pending-approvals")) {
-                                logger.info("ADMIN ENDPOINT ACCESS - /pending-approvals");
-                                logger.info("User trying to access admin endpoint: {}", username);
-                                logger.info("User authorities for admin endpoint: {}", userDetails.getAuthorities());
-                                
-                                boolean hasAdminRole = userDetails.getAuthorities().stream()
-                                    .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-                                logger.info("Has ROLE_ADMIN authority: {}", hasAdminRole);
+                            request.setAttribute(AccessLogFilter.USER_ATTRIBUTE, username);
+
+                            if (LogSampling.isSampled(logger)) {
+                                logger.debug("Authenticated {} for {} {} with authorities {}",
+                                        username, method, path, userDetails.getAuthorities());
                             }
                         } else {
-                            logger.warn("⚠️ Token validation FAILED for user: {}", username);
+                            logger.warn("Token validation failed for user: {}", username);
                         }
                     } catch (UsernameNotFoundException e) {
-                        logger.error("❌ User not found in database: {}", username);
+                        logger.warn("User from token not found in database: {}", username);
                     } catch (Exception e) {
-                        logger.error("❌ Error loading user details: {}", e.getMessage(), e);
-                    }
-                } else {
-                    if (username == null) {
-                        logger.warn("⚠️ Username could not be extracted from token");
-                    }
-                    if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                        logger.info("Authentication already exists in SecurityContext");
+                        logger.error("Error loading user details: {}", e.getMessage(), e);
                     }
+                } else if (username == null) {
+                    logger.warn("Username could not be extracted from token");
                 }
-            } else {
-                logger.info("No JWT token found in request or token format is invalid for path: {}", path);
-            }
-            
-            // Log current authentication status before proceeding
-            if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                logger.info("Current authentication: {}", SecurityContextHolder.getContext().getAuthentication());
-                logger.info("Authenticated: {}", SecurityContextHolder.getContext().getAuthentication().isAuthenticated());
-                logger.info("Authorities: {}", SecurityContextHolder.getContext().getAuthentication().getAuthorities());
-            } else {
-                logger.info("No authentication in SecurityContext for path: {}", path);
+            } else if (LogSampling.isSampled(logger)) {
+                logger.debug("No bearer token for {} {}", method, path);
             }
-            
-            logger.info("================= END REQUEST DETAILS =================");
         } catch (Exception e) {
-            logger.error("❌ Error processing JWT token: {}", e.getMessage(), e);
+            logger.error("Error processing JWT token: {}", e.getMessage(), e);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static String bearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        return authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+    }
+
+    // A stream opened by EventSource, which cannot set headers: the single-use ticket stands in for the login token
+    private void authenticateTicket(HttpServletRequest request, String ticket, String path) {
+        String username = streamTickets.redeem(ticket, path);
+        if (username == null) {
+            logger.warn("Rejected stream ticket for {}", path);
+            return;
+        }
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+            request.setAttribute(AccessLogFilter.USER_ATTRIBUTE, username);
+        } catch (UsernameNotFoundException e) {
+            logger.warn("User from stream ticket not found in database: {}", username);
+        }
+    }
 }
@@ -5,6 +5,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 //import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,11 +14,14 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 //import java.util.Base64;
+import java.time.Duration;
 import java.util.Date;
 //import java.util.Optional;
 import java.util.function.Function;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -24,55 +29,97 @@ public class JwtUtil {
     private static final String SECRET_KEY_STRING = "your_very_long_secure_secret_key_that_is_32_bytes_or_more";
     private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(SECRET_KEY_STRING.getBytes());
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 24 hours
+    // Set on stream tickets only, so they are never accepted as login tokens (and login tokens never as tickets)
+    private static final String USE_CLAIM = "use";
+    private static final String STREAM_USE = "stream";
+    private static final String PATH_CLAIM = "path";
+
+    private final Timer generateTimer;
+    private final Timer validParseTimer;
+    private final Timer invalidParseTimer;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.generateTimer = Timer.builder("jwt.generate")
+                .description("Time to build and sign a token")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.validParseTimer = parseTimer(meterRegistry, "valid");
+        this.invalidParseTimer = parseTimer(meterRegistry, "invalid");
+    }
+
+    // Every claim extraction parses and verifies the whole token; the count shows how often that happens per request
+    private static Timer parseTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.parse")
+                .description("Time to parse a token and verify its signature")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     //  Generate Token (Fixed)
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        logger.info("Generating token for user: {} with role: {}", user.getUserName(), user.getRole());
-        
+
         // Ensure role is properly formatted with ROLE_ prefix
         String formattedRole = user.getRole();
         if (formattedRole != null && !formattedRole.startsWith("ROLE_")) {
             formattedRole = "ROLE_" + formattedRole;
-            logger.info("Formatted role to: {}", formattedRole);
         }
         
         claims.put("role", formattedRole);
-        return createToken(claims, user.getUserName());
+        return generateTimer.record(() -> createToken(claims, user.getUserName()));
     }
 
     // Create Token
     private String createToken(Map<String, Object> claims, String subject) {
-        logger.debug("Creating token for subject: {}", subject);
         try {
             Date issuedAt = new Date(System.currentTimeMillis());
             Date expiration = new Date(System.currentTimeMillis() + EXPIRATION_TIME);
-            
-            logger.info("Token details - Subject: {}, Claims: {}, IssuedAt: {}, Expiration: {}", 
-                subject, claims, issuedAt, expiration);
-            
-            String token = Jwts.builder()
+
+            return Jwts.builder()
                     .setClaims(claims)
                     .setSubject(subject)
                     .setIssuedAt(issuedAt)
                     .setExpiration(expiration)
                     .signWith(SECRET_KEY)
                     .compact();
-            
-            logger.info("Generated token (first 20 chars): {}", token.substring(0, Math.min(token.length(), 20)) + "...");
-            return token;
         } catch (Exception e) {
             logger.error("Error creating token: {}", e.getMessage());
             throw e;
         }
     }
 
+    // Short-lived ticket for opening the SSE stream at `path`, see StreamTickets
+    public String generateStreamTicket(String username, String path, Duration ttl) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USE_CLAIM, STREAM_USE);
+        claims.put(PATH_CLAIM, path);
+        long now = System.currentTimeMillis();
+        return generateTimer.record(() -> Jwts.builder()
+                .setClaims(claims)
+                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + ttl.toMillis()))
+                .signWith(SECRET_KEY)
+                .compact());
+    }
+
+    // Claims of a stream ticket for `path` that is signed and not expired, or null
+    public Claims parseStreamTicket(String ticket, String path) {
+        try {
+            Claims claims = extractClaim(ticket, Function.identity());
+            return STREAM_USE.equals(claims.get(USE_CLAIM)) && path.equals(claims.get(PATH_CLAIM)) ? claims : null;
+        } catch (Exception e) {
+            logger.warn("Invalid stream ticket: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // Extract Role from Token
     public String extractRole(String token) {
         try {
-            String role = extractClaim(token, claims -> claims.get("role", String.class));
-            logger.info("Extracted role from token: {}", role);
-            return role;
+            return extractClaim(token, claims -> claims.get("role", String.class));
         } catch (Exception e) {
             logger.error("Error extracting role from token: {}", e.getMessage());
             return null;
@@ -82,9 +129,7 @@ public class JwtUtil {
     //  Extract Username
     public String extractUsername(String token) {
         try {
-            String username = extractClaim(token, Claims::getSubject);
-            logger.debug("Extracted username from token: {}", username);
-            return username;
+            return extractClaim(token, Claims::getSubject);
         } catch (Exception e) {
             logger.error("Error extracting username from token: {}", e.getMessage());
             return null;
@@ -98,52 +143,35 @@ public class JwtUtil {
 
     //  Extract Any Claim (Fixed)
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        long start = System.nanoTime();
+        Claims claims;
         try {
-            Claims claims = Jwts.parserBuilder()
+            claims = Jwts.parserBuilder()
                     .setSigningKey(SECRET_KEY)
                     .build()
                     .parseClaimsJws(token)
                     .getBody();
-            return claimsResolver.apply(claims);
+            validParseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
-            logger.error("Error extracting claim from token: {}", e.getMessage());
+            invalidParseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.debug("Error extracting claim from token: {}", e.getMessage());
             throw e;
         }
+        return claimsResolver.apply(claims);
     }
 
-    // Validate Token
+    // Validate Token; stream tickets are rejected, they only open the stream they were issued for
     public boolean validateToken(String token, UserDetails userDetails) {
         try {
-            logger.info("Validating token for user: {}", userDetails.getUsername());
-            
-            // Extract the username from the token
-            final String usernameFromToken = extractUsername(token);
-            logger.info("Username from token: {}", usernameFromToken);
-            
-            // Extract expiration from token
-            final Date expirationDate = extractExpiration(token);
-            final boolean isExpired = expirationDate.before(new Date());
-            logger.info("Token expiration date: {}, Is expired: {}", expirationDate, isExpired);
-            
-            // Extract role from token
-            final String roleFromToken = extractRole(token);
-            logger.info("Role from token: {}", roleFromToken);
-            
-            // Log user details information
-            logger.info("User details - Username: {}, Authorities: {}", 
-                    userDetails.getUsername(), userDetails.getAuthorities());
-            
-            // Check all validation criteria
-            boolean usernameMatches = usernameFromToken != null && 
+            final Claims claims = extractClaim(token, Function.identity());
+            final String usernameFromToken = claims.getSubject();
+            final boolean isExpired = claims.getExpiration().before(new Date());
+
+            boolean usernameMatches = usernameFromToken != null &&
                                    usernameFromToken.equals(userDetails.getUsername());
-            logger.info("Username matches: {}", usernameMatches);
-            
-            boolean isValid = usernameMatches && !isExpired;
-            
-            logger.info("Token validation result: {}", isValid);
-            return isValid;
+            return usernameMatches && !isExpired && claims.get(USE_CLAIM) == null;
         } catch (Exception e) {
-            logger.error("Error validating token: {}", e.getMessage(), e);
+            logger.warn("Error validating token: {}", e.getMessage());
             return false;
         }
     }
@@ -151,13 +179,9 @@ public class JwtUtil {
     //  Check Expiration
     private boolean isTokenExpired(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            boolean isExpired = expiration.before(new Date());
-            logger.info("Token expiration check - Expiration: {}, Current time: {}, Is expired: {}", 
-                     expiration, new Date(), isExpired);
-            return isExpired;
+            return extractExpiration(token).before(new Date());
         } catch (Exception e) {
-            logger.error("Error checking token expiration: {}", e.getMessage(), e);
+            logger.debug("Error checking token expiration: {}", e.getMessage());
             return true; // Treat as expired if there's an error
         }
     }
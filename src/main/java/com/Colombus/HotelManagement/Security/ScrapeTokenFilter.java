@@ -0,0 +1,41 @@
+package com.Colombus.HotelManagement.Security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// Authenticates the metrics scraper by the static bearer token in app.metrics.scrape-token; an empty token admits
+// nobody. Created by SecurityConfig for the metrics chain only, not registered as a servlet filter.
+public class ScrapeTokenFilter extends OncePerRequestFilter {
+    public static final String SCRAPER_AUTHORITY = "ROLE_METRICS";
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+
+    public ScrapeTokenFilter(String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (token.length > 0 && header != null && header.startsWith(BEARER)
+                && MessageDigest.isEqual(token, header.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "metrics-scraper", null, List.of(new SimpleGrantedAuthority(SCRAPER_AUTHORITY))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
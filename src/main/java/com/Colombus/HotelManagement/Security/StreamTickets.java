@@ -0,0 +1,60 @@
+package com.Colombus.HotelManagement.Security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-use tickets for the SSE streams, which EventSource cannot send an Authorization header to. An authenticated
+ * POST /auth/stream-ticket returns one bound to a single stream path and valid for app.streams.ticket-ttl; the stream
+ * request passes it as ?ticket= in place of the login token, so no long-lived credential ends up in a URL (and so in
+ * proxy or edge logs). Tickets are signed, so any instance accepts them; each instance accepts a ticket once.
+ */
+@Component
+public class StreamTickets {
+    public static final String PARAMETER = "ticket";
+    public static final Set<String> STREAM_PATHS = Set.of("/hotels/stream", "/auth/pending-approvals/stream");
+
+    private final JwtUtil jwtUtil;
+    private final Duration ttl;
+    // Ticket id -> expiry (epoch millis) of the tickets already used; forgotten once they would be rejected anyway
+    private final Map<String, Long> redeemed = new ConcurrentHashMap<>();
+
+    public StreamTickets(JwtUtil jwtUtil, @Value("${app.streams.ticket-ttl:30s}") Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        this.ttl = ttl;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public String issue(String username, String path) {
+        if (!STREAM_PATHS.contains(path)) {
+            throw new IllegalArgumentException("stream must be one of " + String.join(", ", STREAM_PATHS));
+        }
+        return jwtUtil.generateStreamTicket(username, path, ttl);
+    }
+
+    // The user the ticket was issued to, or null when it is invalid, expired, for another stream or already used
+    public String redeem(String ticket, String path) {
+        Claims claims = jwtUtil.parseStreamTicket(ticket, path);
+        if (claims == null || claims.getId() == null
+                || redeemed.putIfAbsent(claims.getId(), claims.getExpiration().getTime()) != null) {
+            return null;
+        }
+        return claims.getSubject();
+    }
+
+    @Scheduled(fixedRateString = "${app.streams.ticket-ttl:30s}")
+    public void forgetExpired() {
+        long now = System.currentTimeMillis();
+        redeemed.values().removeIf(expiry -> expiry < now);
+    }
+}
@@ -0,0 +1,67 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Logging.LogSampling;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Parses the availability upload CSV: a header line, then hotelId,roomType,from,to,rooms per line with ISO dates
+// and `to` exclusive. Lines that are not valid ranges become errors.
+public final class AvailabilityCsvParser {
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityCsvParser.class);
+    private static final int COLUMNS = 5;
+
+    private AvailabilityCsvParser() {
+    }
+
+    public record Row(long hotelId, AvailabilityRange range) {
+    }
+
+    // lines counts the header too
+    public record Result(List<Row> rows, List<String> errors, int lines) {
+    }
+
+    public static Result parse(BufferedReader reader) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        // Skip header line
+        reader.readLine();
+        int lineNumber = 1;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (LogSampling.isSampled(logger)) {
+                logger.debug("Processing availability CSV line {} ({} chars)", lineNumber, line.length());
+            }
+            String[] data = line.split(",");
+            if (data.length < COLUMNS) {
+                errors.add("Line " + lineNumber + " has insufficient fields: " + data.length + " (needs " + COLUMNS + ")");
+                continue;
+            }
+            try {
+                AvailabilityRange range = new AvailabilityRange(data[1], LocalDate.parse(data[2].trim()),
+                        LocalDate.parse(data[3].trim()), Integer.valueOf(data[4].trim()));
+                range.validate();
+                rows.add(new Row(Long.parseLong(data[0].trim()), range));
+            } catch (NumberFormatException e) {
+                errors.add("Line " + lineNumber + " has an invalid number: " + e.getMessage());
+            } catch (DateTimeParseException e) {
+                errors.add("Line " + lineNumber + " has an invalid date (expected yyyy-MM-dd): " + e.getParsedString());
+            } catch (IllegalArgumentException e) {
+                errors.add("Line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+        return new Result(rows, errors, lineNumber);
+    }
+}
@@ -0,0 +1,36 @@
+package com.Colombus.HotelManagement.Services;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// Free rooms of a room type on the nights from `from` up to (not including) `to`; one entry of an availability upload
+public record AvailabilityRange(String roomType, LocalDate from, LocalDate to, Integer rooms) {
+    public static final int MAX_ROOM_TYPE_LENGTH = 64;
+    public static final int MAX_NIGHTS = 731;
+    public static final int MAX_ROOMS = 10_000;
+
+    public AvailabilityRange {
+        roomType = roomType == null ? null : roomType.trim();
+    }
+
+    public void validate() {
+        if (roomType == null || roomType.isEmpty()) {
+            throw new IllegalArgumentException("roomType is required");
+        }
+        if (roomType.length() > MAX_ROOM_TYPE_LENGTH) {
+            throw new IllegalArgumentException("roomType must be at most " + MAX_ROOM_TYPE_LENGTH + " characters");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_NIGHTS) {
+            throw new IllegalArgumentException("A range covers at most " + MAX_NIGHTS + " nights");
+        }
+        if (rooms == null || rooms < 0 || rooms > MAX_ROOMS) {
+            throw new IllegalArgumentException("rooms must be between 0 and " + MAX_ROOMS);
+        }
+    }
+}
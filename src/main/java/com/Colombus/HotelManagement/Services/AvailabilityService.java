@@ -0,0 +1,262 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Catalog.AvailabilityRun;
+import com.Colombus.HotelManagement.Catalog.AvailableHotel;
+import com.Colombus.HotelManagement.Catalog.HotelAvailabilityIndex;
+import com.Colombus.HotelManagement.Catalog.RoomCalendar;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import com.Colombus.HotelManagement.Models.RoomAvailability;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Repositories.RoomAvailabilityRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Room availability calendars: stored run-length encoded in room_availability and served from HotelAvailabilityIndex.
+ * A write sets the free rooms of a room type on a range of nights and leaves the other nights as they were. It locks
+ * the hotel row, so writes to one hotel apply one after the other, and records a change_log entry from which other
+ * instances reload the hotel's calendars (see ClusterChangePoller).
+ */
+@Service
+public class AvailabilityService {
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityService.class);
+    public static final int MAX_STAY_NIGHTS = 90;
+    private static final int HOTEL_BATCH = 500;
+
+    private final RoomAvailabilityRepository roomAvailabilityRepository;
+    private final HotelRepository hotelRepository;
+    private final HotelAvailabilityIndex availabilityIndex;
+    private final ChangeLogService changeLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean loaded;
+
+    // Published by a write; the index is updated once the write has committed
+    public record CalendarsChanged(Long hotelId, Map<String, RoomCalendar> calendars) {
+    }
+
+    public record ImportResult(int hotels, int ranges, List<String> errors) {
+    }
+
+    public AvailabilityService(RoomAvailabilityRepository roomAvailabilityRepository, HotelRepository hotelRepository,
+                               HotelAvailabilityIndex availabilityIndex, ChangeLogService changeLogService,
+                               ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.roomAvailabilityRepository = roomAvailabilityRepository;
+        this.hotelRepository = hotelRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.changeLogService = changeLogService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Hotel by hotel rather than in row pages, so a hotel rewritten meanwhile is never read half old and half new
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        int hotels = 0;
+        availabilityIndex.beginLoad();
+        try {
+            long after = 0;
+            List<Long> page;
+            do {
+                page = roomAvailabilityRepository.findHotelIdsAfter(after, Limit.of(HOTEL_BATCH));
+                readCalendars(page).forEach(availabilityIndex::putLoaded);
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+                hotels += page.size();
+            } while (page.size() == HOTEL_BATCH);
+        } finally {
+            availabilityIndex.endLoad();
+        }
+        loaded = true;
+        logger.info("Loaded availability calendars of {} hotels in {} ms", hotels, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public List<AvailableHotel> findAvailable(String city, LocalDate from, LocalDate to, int rooms) {
+        if (city == null || city.isBlank()) {
+            throw new IllegalArgumentException("city is required");
+        }
+        validateStay(from, to, MAX_STAY_NIGHTS);
+        if (rooms < 1 || rooms > AvailabilityRange.MAX_ROOMS) {
+            throw new IllegalArgumentException("rooms must be between 1 and " + AvailabilityRange.MAX_ROOMS);
+        }
+        return availabilityIndex.available(city, from, to, rooms);
+    }
+
+    // The hotel's runs on the nights from `from` up to (not including) `to`, by room type
+    public Map<String, List<AvailabilityRun>> getAvailability(Long hotelId, LocalDate from, LocalDate to) {
+        validateStay(from, to, AvailabilityRange.MAX_NIGHTS);
+        if (hotelRepository.findById(hotelId).isEmpty()) {
+            throw new EntityNotFoundException("Hotel not found");
+        }
+        Map<String, List<AvailabilityRun>> runs = new TreeMap<>();
+        availabilityIndex.calendars(hotelId).forEach((roomType, calendar) -> runs.put(roomType, calendar.runs(from, to)));
+        return runs;
+    }
+
+    // Applies the ranges in order, so a later range wins where two overlap; returns the hotel's whole calendars
+    @Transactional
+    public Map<String, List<AvailabilityRun>> setAvailability(Long hotelId, List<AvailabilityRange> ranges) {
+        if (ranges == null || ranges.isEmpty()) {
+            throw new IllegalArgumentException("At least one range is required");
+        }
+        ranges.forEach(AvailabilityRange::validate);
+        return runsOf(apply(hotelId, ranges));
+    }
+
+    // Rows apply in file order, in one transaction per hotel, so a bad hotel id only fails its own rows
+    public ImportResult importCsv(MultipartFile file) throws IOException {
+        AvailabilityCsvParser.Result parsed;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
+            parsed = AvailabilityCsvParser.parse(reader);
+        }
+        List<String> errors = new ArrayList<>(parsed.errors());
+        if (parsed.rows().isEmpty()) {
+            logger.warn("No valid availability rows found in CSV file ({} errors)", errors.size());
+            throw new IOException("No valid availability rows found in the CSV file. Errors: " + String.join("; ", errors));
+        }
+
+        Map<Long, List<AvailabilityRange>> byHotel = new LinkedHashMap<>();
+        parsed.rows().forEach(row -> byHotel.computeIfAbsent(row.hotelId(), id -> new ArrayList<>()).add(row.range()));
+        int hotels = 0;
+        int ranges = 0;
+        for (Map.Entry<Long, List<AvailabilityRange>> entry : byHotel.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(entry.getKey(), entry.getValue()));
+                hotels++;
+                ranges += entry.getValue().size();
+            } catch (EntityNotFoundException | DataAccessException e) {
+                errors.add("Hotel " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+        logger.info("Imported {} availability ranges for {} hotels ({} errors)", ranges, hotels, errors.size());
+        return new ImportResult(hotels, ranges, errors);
+    }
+
+    // Rereads calendars written by another instance
+    @Transactional(readOnly = true)
+    public void reload(Collection<Long> hotelIds) {
+        List<Long> ids = List.copyOf(hotelIds);
+        for (int from = 0; from < ids.size(); from += HOTEL_BATCH) {
+            readCalendars(ids.subList(from, Math.min(from + HOTEL_BATCH, ids.size())))
+                    .forEach(availabilityIndex::replaceCalendars);
+        }
+    }
+
+    // After commit (or immediately for writes outside a transaction), so queries never see rolled-back calendars
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarsChanged(CalendarsChanged event) {
+        availabilityIndex.replaceCalendars(event.hotelId(), event.calendars());
+    }
+
+    // Must run in a transaction; the ranges are already validated
+    private Map<String, RoomCalendar> apply(Long hotelId, List<AvailabilityRange> ranges) {
+        hotelRepository.findByIdForUpdate(hotelId).orElseThrow(() -> new EntityNotFoundException("Hotel not found"));
+        Map<String, List<AvailabilityRun>> stored = new HashMap<>();
+        roomAvailabilityRepository.findByHotelId(hotelId).forEach(row -> addRun(stored, row));
+        Map<String, RoomCalendar> calendars = calendarsOf(stored);
+
+        Set<String> changed = new LinkedHashSet<>();
+        for (AvailabilityRange range : ranges) {
+            calendars.put(range.roomType(), calendars.getOrDefault(range.roomType(), RoomCalendar.empty())
+                    .with(range.from(), range.to(), range.rooms()));
+            changed.add(range.roomType());
+        }
+
+        // Only the rows of the room types written are replaced
+        roomAvailabilityRepository.deleteByHotelIdAndRoomTypes(hotelId, changed);
+        List<RoomAvailability> rows = new ArrayList<>();
+        for (String roomType : changed) {
+            for (AvailabilityRun run : calendars.get(roomType).runs()) {
+                RoomAvailability row = new RoomAvailability();
+                row.setHotelId(hotelId);
+                row.setRoomType(roomType);
+                row.setStartDate(run.from());
+                row.setEndDate(run.to());
+                row.setRooms(run.rooms());
+                rows.add(row);
+            }
+        }
+        roomAvailabilityRepository.saveAll(rows);
+        calendars.values().removeIf(RoomCalendar::isEmpty);
+
+        changeLogService.record(ChangeLogEntry.AVAILABILITY, hotelId, false);
+        eventPublisher.publishEvent(new CalendarsChanged(hotelId, Map.copyOf(calendars)));
+        return calendars;
+    }
+
+    // One query, so each hotel's runs come from a single consistent read. A hotel whose stored runs overlap is left
+    // out and keeps the calendars it had, rather than failing the others
+    private Map<Long, Map<String, RoomCalendar>> readCalendars(List<Long> hotelIds) {
+        Map<Long, Map<String, List<AvailabilityRun>>> runs = new HashMap<>();
+        hotelIds.forEach(id -> runs.put(id, new HashMap<>()));
+        roomAvailabilityRepository.findByHotelIdIn(hotelIds).forEach(row -> addRun(runs.get(row.getHotelId()), row));
+
+        Map<Long, Map<String, RoomCalendar>> calendars = new HashMap<>();
+        runs.forEach((hotelId, byRoomType) -> {
+            try {
+                calendars.put(hotelId, calendarsOf(byRoomType));
+            } catch (IllegalArgumentException e) {
+                logger.error("Skipped the availability calendars of hotel {}: {}", hotelId, e.getMessage());
+            }
+        });
+        return calendars;
+    }
+
+    private static void addRun(Map<String, List<AvailabilityRun>> byRoomType, RoomAvailability row) {
+        byRoomType.computeIfAbsent(row.getRoomType(), roomType -> new ArrayList<>())
+                .add(new AvailabilityRun(row.getStartDate(), row.getEndDate(), row.getRooms()));
+    }
+
+    private static Map<String, RoomCalendar> calendarsOf(Map<String, List<AvailabilityRun>> byRoomType) {
+        Map<String, RoomCalendar> calendars = new HashMap<>();
+        byRoomType.forEach((roomType, runs) -> calendars.put(roomType, RoomCalendar.of(runs)));
+        return calendars;
+    }
+
+    private static Map<String, List<AvailabilityRun>> runsOf(Map<String, RoomCalendar> calendars) {
+        Map<String, List<AvailabilityRun>> runs = new TreeMap<>();
+        calendars.forEach((roomType, calendar) -> runs.put(roomType, calendar.runs()));
+        return runs;
+    }
+
+    private static void validateStay(LocalDate from, LocalDate to, int maxNights) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxNights) {
+            throw new IllegalArgumentException("from and to must be at most " + maxNights + " nights apart");
+        }
+    }
+}
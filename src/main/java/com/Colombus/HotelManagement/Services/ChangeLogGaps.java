@@ -0,0 +1,54 @@
+package com.Colombus.HotelManagement.Services;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Tracks which change versions a reader of the change log has seen, to tell how far it can be trusted.
+ * Versions are allocated when a write transaction starts, so a lower one can commit after a higher one is visible;
+ * each id skipped below the highest seen is kept as a gap until its entry turns up or the id is proven never to
+ * commit (see ChangeLogService#fillGap). Nothing expires with time: a slow transaction holds the mark back for as
+ * long as it runs. Not thread-safe; each reader owns its instance.
+ */
+final class ChangeLogGaps {
+    // Versions this far below the newest at startup are taken as committed; only the ones above are checked
+    static final int STARTUP_WINDOW = 1000;
+
+    private long seenUpTo;
+    private final NavigableSet<Long> gaps = new TreeSet<>();
+
+    ChangeLogGaps(long start) {
+        this.seenUpTo = start;
+    }
+
+    // An entry became visible: ids skipped on the way to it are gaps, and a gap it fills is closed
+    void seen(long id) {
+        if (id > seenUpTo) {
+            for (long gap = seenUpTo + 1; gap < id; gap++) {
+                gaps.add(gap);
+            }
+            seenUpTo = id;
+        } else {
+            gaps.remove(id);
+        }
+    }
+
+    // The id will never commit: rolled back, skipped by the database or deleted by compaction
+    void resolved(long id) {
+        gaps.remove(id);
+    }
+
+    long seenUpTo() {
+        return seenUpTo;
+    }
+
+    List<Long> gaps() {
+        return List.copyOf(gaps);
+    }
+
+    // Every entry up to here has been seen, and no entry up to here can still appear
+    long committedUpTo() {
+        return gaps.isEmpty() ? seenUpTo : gaps.first() - 1;
+    }
+}
@@ -0,0 +1,154 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import com.Colombus.HotelManagement.Repositories.ChangeLogRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Allocates change versions and answers "what changed since version N".
+ * Versions are allocated when a write transaction starts, so they can commit out of order. Answers stop below the
+ * lowest version that is missing from the log until its entry commits or the version is claimed by a filler entry,
+ * which the primary key only allows once the transaction that held it has rolled back (see ChangeLogGaps).
+ * Every entry carries the node id of the instance that wrote it (app.cluster.node-id, random when unset).
+ */
+@Service
+public class ChangeLogService {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogService.class);
+    private static final int COMPACTION_BATCH = 1000;
+    private static final int TRACKING_BATCH = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TransactionTemplate fillerTransaction;
+    private final String nodeId;
+
+    // Only touched by start() and the tracking schedule; the mark is read by request threads
+    private ChangeLogGaps commits;
+    private volatile long committedUpTo = -1;
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository, PlatformTransactionManager transactionManager,
+                            @Value("${app.cluster.node-id:}") String nodeId) {
+        this.changeLogRepository = changeLogRepository;
+        this.fillerTransaction = new TransactionTemplate(transactionManager);
+        this.fillerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    @PostConstruct
+    public void start() {
+        long latest = changeLogRepository.findLatestId().orElse(0L);
+        commits = new ChangeLogGaps(Math.max(0, latest - ChangeLogGaps.STARTUP_WINDOW));
+        committedUpTo = commits.committedUpTo();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // Must run in the transaction of the write it versions, so a rollback discards the entry too
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeLogEntry record(String entityType, Long entityId, boolean deleted) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setEntityId(entityId);
+        entry.setDeleted(deleted);
+        entry.setOrigin(nodeId);
+        return changeLogRepository.save(entry);
+    }
+
+    // Nothing above the committed mark, so a client never moves past a version that can still commit
+    @Transactional(readOnly = true)
+    public List<ChangeLogEntry> changesSince(String entityType, long since, int limit) {
+        long upTo = committedUpTo;
+        if (upTo <= since) {
+            return List.of();
+        }
+        return changeLogRepository.findCommittedSince(entityType, since, upTo, Limit.of(limit));
+    }
+
+    // Highest version below which every entry has committed or never will
+    public long committedUpTo() {
+        return committedUpTo;
+    }
+
+    // Advances the committed mark: gaps left by earlier rounds are rechecked, and those still missing are claimed
+    // when their transaction has rolled back; then the versions committed since the last round are read
+    @Scheduled(fixedDelayString = "${app.changes.track-interval:1s}")
+    public void trackCommits() {
+        if (commits == null) {
+            return;
+        }
+        try {
+            List<Long> earlier = commits.gaps();
+            for (int from = 0; from < earlier.size(); from += TRACKING_BATCH) {
+                changeLogRepository.findIdsIn(earlier.subList(from, Math.min(from + TRACKING_BATCH, earlier.size())))
+                        .forEach(commits::seen);
+            }
+            for (Long gap : commits.gaps()) {
+                if (fillGap(gap)) {
+                    commits.resolved(gap);
+                }
+            }
+            List<Long> ids;
+            do {
+                ids = changeLogRepository.findIdsAfter(commits.seenUpTo(), Limit.of(TRACKING_BATCH));
+                ids.forEach(commits::seen);
+            } while (ids.size() == TRACKING_BATCH);
+            committedUpTo = commits.committedUpTo();
+        } catch (RuntimeException e) {
+            // The mark only moves on after a successful round
+            logger.warn("Tracking committed change versions failed: {}", e.getMessage());
+        }
+    }
+
+    // Claims a version missing from the log with a filler entry. True when the version can no longer commit: the
+    // insert only succeeds after the transaction that allocated it rolled back (or the id was skipped or compacted).
+    public boolean fillGap(long id) {
+        try {
+            fillerTransaction.executeWithoutResult(status -> changeLogRepository.insertFiller(id, ChangeLogEntry.GAP, nodeId));
+            return true;
+        } catch (RuntimeException e) {
+            // Committed meanwhile, or still held by an open transaction
+            logger.debug("Change version {} not claimed: {}", id, e.getMessage());
+            return false;
+        }
+    }
+
+    // Drops entries superseded by a newer entry of the same entity; tombstones are always the newest and are kept
+    @Scheduled(fixedDelayString = "${app.changes.compaction-interval:1h}", initialDelayString = "${app.changes.compaction-interval:1h}")
+    @Transactional
+    public void compact() {
+        int removed = 0;
+        for (String entityType : List.of(ChangeLogEntry.HOTEL, ChangeLogEntry.USER, ChangeLogEntry.AVAILABILITY)) {
+            List<Long> superseded;
+            do {
+                superseded = changeLogRepository.findSupersededIds(entityType, Limit.of(COMPACTION_BATCH));
+                changeLogRepository.deleteAllByIdInBatch(superseded);
+                removed += superseded.size();
+            } while (superseded.size() == COMPACTION_BATCH);
+        }
+        // A reader that still has a filler's version as a gap simply claims it again
+        List<Long> fillers;
+        do {
+            fillers = changeLogRepository.findIdsByEntityType(ChangeLogEntry.GAP, Limit.of(COMPACTION_BATCH));
+            changeLogRepository.deleteAllByIdInBatch(fillers);
+            removed += fillers.size();
+        } while (fillers.size() == COMPACTION_BATCH);
+        if (removed > 0) {
+            logger.info("Compacted change log: removed {} superseded entries", removed);
+        }
+    }
+}
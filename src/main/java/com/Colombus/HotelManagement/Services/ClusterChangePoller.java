@@ -0,0 +1,232 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Config.CacheRegions;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Repositories.ChangeLogRepository;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Repositories.UserIdentity;
+import com.Colombus.HotelManagement.Repositories.UserRepository;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps this instance's caches coherent with writes made by other instances, without a message broker.
+ * Every hotel, user and room availability write adds a change_log entry in its own transaction; this poller reads
+ * the entries written by other nodes and evicts the affected second-level cache entries and query regions, reloads
+ * changed hotels into the catalog (as ChangeEvents, so SSE subscribers of this instance see them too), adds new users
+ * to the availability filter and rereads changed room calendars. A remote change is applied within about
+ * app.cluster.poll-interval of its commit.
+ *
+ * Change versions can commit out of order. Every version skipped below the newest one seen is kept as a gap and
+ * looked up again on each poll until its entry turns up, or until ChangeLogService#fillGap proves it rolled back;
+ * gaps never expire by time. The supported databases offer no change notification, so polling is the only transport.
+ */
+@Component
+public class ClusterChangePoller {
+    private static final Logger logger = LoggerFactory.getLogger(ClusterChangePoller.class);
+    private static final int POLL_BATCH = 1000;
+    private static final int RELOAD_BATCH = 500;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogService changeLogService;
+    private final HotelRepository hotelRepository;
+    private final UserRepository userRepository;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionFactory sessionFactory;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter hotelChanges;
+    private final Counter userChanges;
+    private final Counter availabilityChanges;
+
+    // Poll state, only touched by the scheduler thread: the versions handled so far and the gaps below the newest
+    private ChangeLogGaps handled;
+
+    public ClusterChangePoller(ChangeLogRepository changeLogRepository, ChangeLogService changeLogService,
+                               HotelRepository hotelRepository, UserRepository userRepository,
+                               UserAvailabilityFilter availabilityFilter, AvailabilityService availabilityService,
+                               ApplicationEventPublisher eventPublisher,
+                               EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.changeLogRepository = changeLogRepository;
+        this.changeLogService = changeLogService;
+        this.hotelRepository = hotelRepository;
+        this.userRepository = userRepository;
+        this.availabilityFilter = availabilityFilter;
+        this.availabilityService = availabilityService;
+        this.eventPublisher = eventPublisher;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.hotelChanges = remoteChanges(meterRegistry, ChangeLogEntry.HOTEL);
+        this.userChanges = remoteChanges(meterRegistry, ChangeLogEntry.USER);
+        this.availabilityChanges = remoteChanges(meterRegistry, ChangeLogEntry.AVAILABILITY);
+    }
+
+    // Before the catalog and the filters load, so nothing committed after their initial read is missed. Recent
+    // entries already committed reach the caches through that load; only the versions missing among them are watched.
+    @PostConstruct
+    public void start() {
+        long latest = changeLogRepository.findLatestId().orElse(0L);
+        ChangeLogGaps gaps = new ChangeLogGaps(Math.max(0, latest - ChangeLogGaps.STARTUP_WINDOW));
+        changeLogRepository.findIdsAfter(gaps.seenUpTo(), Limit.of(ChangeLogGaps.STARTUP_WINDOW)).forEach(gaps::seen);
+        handled = gaps;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.poll-interval:1s}")
+    public void poll() {
+        if (handled == null) {
+            return;
+        }
+        try {
+            List<Long> earlierGaps = handled.gaps();
+            List<ChangeEvent> events = readOnlyTransaction.execute(status -> pollChanges(earlierGaps));
+            events.forEach(eventPublisher::publishEvent);
+            resolveGaps(earlierGaps);
+        } catch (RuntimeException e) {
+            // State only moves on after a successful poll, so the same entries are tried again
+            logger.warn("Polling the change log for remote changes failed: {}", e.getMessage());
+        }
+    }
+
+    private List<ChangeEvent> pollChanges(List<Long> earlierGaps) {
+        List<ChangeLogEntry> fresh = new ArrayList<>();
+        // Entries that committed below the newest one already seen, in version order like the rest
+        for (int from = 0; from < earlierGaps.size(); from += POLL_BATCH) {
+            fresh.addAll(changeLogRepository.findAllById(earlierGaps.subList(from, Math.min(from + POLL_BATCH, earlierGaps.size()))));
+        }
+        fresh.sort(Comparator.comparing(ChangeLogEntry::getId));
+        long newest = handled.seenUpTo();
+        List<ChangeLogEntry> page;
+        do {
+            page = changeLogRepository.findAfter(newest, Limit.of(POLL_BATCH));
+            fresh.addAll(page);
+            if (!page.isEmpty()) {
+                newest = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == POLL_BATCH);
+
+        List<ChangeEvent> events = invalidate(fresh);
+        fresh.forEach(entry -> handled.seen(entry.getId()));
+        return events;
+    }
+
+    // Gaps that were already open before this poll and are still missing are claimed once their transaction has
+    // rolled back; a gap whose transaction is still open stays, however long it takes
+    private void resolveGaps(List<Long> earlierGaps) {
+        Set<Long> open = new HashSet<>(handled.gaps());
+        for (Long gap : earlierGaps) {
+            if (open.contains(gap) && changeLogService.fillGap(gap)) {
+                handled.resolved(gap);
+            }
+        }
+    }
+
+    private List<ChangeEvent> invalidate(List<ChangeLogEntry> entries) {
+        // Latest state per entity; this instance's own writes already reached its caches
+        Map<Long, ChangeLogEntry> hotels = new LinkedHashMap<>();
+        Map<Long, ChangeLogEntry> users = new LinkedHashMap<>();
+        Set<Long> calendars = new HashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            if (entry.getEntityId() == null || changeLogService.nodeId().equals(entry.getOrigin())) {
+                continue;
+            }
+            switch (entry.getEntityType()) {
+                case ChangeLogEntry.HOTEL -> hotels.put(entry.getEntityId(), entry);
+                case ChangeLogEntry.USER -> users.put(entry.getEntityId(), entry);
+                case ChangeLogEntry.AVAILABILITY -> calendars.add(entry.getEntityId());
+                default -> { }
+            }
+        }
+        List<ChangeEvent> events = new ArrayList<>();
+        if (!hotels.isEmpty()) {
+            invalidateHotels(hotels, events);
+            hotelChanges.increment(hotels.size());
+        }
+        if (!users.isEmpty()) {
+            invalidateUsers(users);
+            userChanges.increment(users.size());
+        }
+        if (!calendars.isEmpty()) {
+            availabilityService.reload(calendars);
+            availabilityChanges.increment(calendars.size());
+        }
+        if (!hotels.isEmpty() || !users.isEmpty() || !calendars.isEmpty()) {
+            logger.debug("Applied remote changes to {} hotels, {} users and {} availability calendars",
+                    hotels.size(), users.size(), calendars.size());
+        }
+        return events;
+    }
+
+    private void invalidateHotels(Map<Long, ChangeLogEntry> hotels, List<ChangeEvent> events) {
+        Cache cache = sessionFactory.getCache();
+        hotels.keySet().forEach(id -> cache.evictEntityData(Hotel.class, id));
+        cache.evictQueryRegion(CacheRegions.HOTEL_QUERIES);
+
+        List<Long> changed = hotels.values().stream().filter(entry -> !entry.isDeleted())
+                .map(ChangeLogEntry::getEntityId).toList();
+        Set<Long> found = new HashSet<>();
+        for (int from = 0; from < changed.size(); from += RELOAD_BATCH) {
+            // The entries do not tell a creation from an update; the catalog and SSE clients treat both alike
+            for (Hotel hotel : hotelRepository.findAllById(changed.subList(from, Math.min(from + RELOAD_BATCH, changed.size())))) {
+                found.add(hotel.getId());
+                events.add(new ChangeEvent(ChangeEvent.HOTELS, ChangeEvent.UPDATED, hotel));
+            }
+        }
+        // Deleted, or changed and deleted since the entry was read
+        hotels.forEach((id, entry) -> {
+            if (!found.contains(id)) {
+                events.add(new ChangeEvent(ChangeEvent.HOTELS, ChangeEvent.DELETED, Map.of("id", id, "changeVersion", entry.getId())));
+            }
+        });
+    }
+
+    private void invalidateUsers(Map<Long, ChangeLogEntry> users) {
+        Cache cache = sessionFactory.getCache();
+        users.keySet().forEach(id -> cache.evictEntityData(User.class, id));
+        cache.evictQueryRegion(CacheRegions.USER_QUERIES);
+        if (users.values().stream().anyMatch(ChangeLogEntry::isDeleted)) {
+            cache.evictNaturalIdData(User.class); // User names never change, so only deletions leave stale mappings
+        }
+        // Usernames and emails of deleted users stay in the filter: a stale entry only costs a database confirmation
+        Set<Long> added = users.values().stream().filter(entry -> !entry.isDeleted())
+                .map(ChangeLogEntry::getEntityId).collect(Collectors.toSet());
+        if (!added.isEmpty()) {
+            for (UserIdentity user : userRepository.findIdentitiesByIds(added)) {
+                availabilityFilter.recordAdded(user.getUserName(), user.getEmail());
+            }
+        }
+    }
+
+    private static Counter remoteChanges(MeterRegistry meterRegistry, String entityType) {
+        return Counter.builder("cluster.remote.changes")
+                .description("Entities changed by other instances whose cached copies were invalidated here")
+                .tag("entity", entityType)
+                .register(meterRegistry);
+    }
+}
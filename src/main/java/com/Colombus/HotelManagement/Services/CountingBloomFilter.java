@@ -0,0 +1,109 @@
+package com.Colombus.HotelManagement.Services;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Counting Bloom filter over strings: one byte counter per slot so entries can be removed again.
+ * A "no" answer is definite, a "yes" answer may be a false positive.
+ */
+final class CountingBloomFilter {
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashFunctions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CountingBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        long slots = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Math.max(slots, 64), Integer.MAX_VALUE - 8)];
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / entries * Math.log(2)));
+    }
+
+    void add(String value) {
+        long hash = hash64(value);
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashFunctions; i++) {
+                int slot = slot(hash, i);
+                int count = counters[slot] & 0xFF;
+                if (count < SATURATED) {
+                    counters[slot] = (byte) (count + 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Only call for values that were added; saturated counters are never decremented
+    void remove(String value) {
+        long hash = hash64(value);
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashFunctions; i++) {
+                int slot = slot(hash, i);
+                int count = counters[slot] & 0xFF;
+                if (count > 0 && count < SATURATED) {
+                    counters[slot] = (byte) (count - 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < hashFunctions; i++) {
+                if (counters[slot(hash, i)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Theoretical false-positive probability given the current fill ratio
+    double expectedFalsePositiveRate() {
+        int used = 0;
+        lock.readLock().lock();
+        try {
+            for (byte counter : counters) {
+                if (counter != 0) {
+                    used++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Math.pow((double) used / counters.length, hashFunctions);
+    }
+
+    // Kirsch-Mitzenmacher double hashing: slot_i = h1 + i * h2
+    private int slot(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + i * h2, counters.length);
+    }
+
+    // FNV-1a over the chars followed by the murmur3 finalizer
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
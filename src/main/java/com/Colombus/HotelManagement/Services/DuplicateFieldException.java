@@ -0,0 +1,15 @@
+package com.Colombus.HotelManagement.Services;
+
+// Thrown when an insert hits a unique constraint; carries the name of the field that clashed
+public class DuplicateFieldException extends RuntimeException {
+    private final String field;
+
+    public DuplicateFieldException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,9 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+import java.util.List;
+
+// Response of GET /hotels/changes: pass "version" as the next "since"; fetch again at once while hasMore is true
+public record HotelChanges(long since, long version, List<Hotel> hotels, List<Long> deleted, boolean hasMore) {
+}
@@ -0,0 +1,91 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Logging.LogSampling;
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Parses the hotel upload CSV (header line, then 11 columns per hotel); rows that are not valid hotels become errors
+public final class HotelCsvParser {
+    private static final Logger logger = LoggerFactory.getLogger(HotelCsvParser.class);
+
+    private HotelCsvParser() {
+    }
+
+    // lines counts the header too
+    public record Result(List<Hotel> hotels, List<String> errors, int lines) {
+    }
+
+    public static Result parse(BufferedReader reader) throws IOException {
+        List<Hotel> hotels = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int lineNumber = 0;
+
+        String line;
+        // Skip header line
+        reader.readLine();
+        lineNumber = 1;
+        
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (LogSampling.isSampled(logger)) {
+                logger.debug("Processing CSV line {} ({} chars)", lineNumber, line.length());
+            }
+            
+            try {
+                String[] data = line.split(",");
+                if (data.length < 11) { // Ensure we have all required fields
+                    String error = "Line " + lineNumber + " has insufficient fields: " + data.length + " (needs at least 11)";
+                    errors.add(error);
+                    continue;
+                }
+                
+                Hotel hotel = new Hotel();
+                hotel.setHotelName(data[0].trim());
+                hotel.setEmail1(data[1].trim());
+                hotel.setEmail2(data[2].trim().isEmpty() ? null : data[2].trim());
+                hotel.setAddress(data[3].trim());
+                hotel.setMobilePhoneContact(data[4].trim());
+                hotel.setLandlineContact(data[5].trim().isEmpty() ? null : data[5].trim());
+                hotel.setConcerningPersonName(data[6].trim());
+                
+                try {
+                    hotel.setPreferred(Boolean.parseBoolean(data[7].trim()));
+                } catch (Exception e) {
+                    hotel.setPreferred(false);
+                }
+                
+                hotel.setCity(data[8].trim());
+                hotel.setState(data[9].trim());
+                hotel.setWebsite(data[10].trim().isEmpty() ? null : data[10].trim());
+                
+                // Validate required fields
+                if (isValidHotel(hotel)) {
+                    hotels.add(hotel);
+                } else {
+                    String error = "Line " + lineNumber + " has invalid hotel data: Missing required fields";
+                    errors.add(error);
+                }
+            } catch (Exception e) {
+                String error = "Error processing line " + lineNumber + ": " + e.getMessage();
+                errors.add(error);
+            }
+        }
+        return new Result(hotels, errors, lineNumber);
+    }
+
+    private static boolean isValidHotel(Hotel hotel) {
+        return hotel.getHotelName() != null && !hotel.getHotelName().trim().isEmpty() &&
+                hotel.getEmail1() != null && !hotel.getEmail1().trim().isEmpty() &&
+                hotel.getMobilePhoneContact() != null && !hotel.getMobilePhoneContact().trim().isEmpty() &&
+                hotel.getAddress() != null && !hotel.getAddress().trim().isEmpty() &&
+                hotel.getConcerningPersonName() != null && !hotel.getConcerningPersonName().trim().isEmpty() &&
+                hotel.getCity() != null && !hotel.getCity().trim().isEmpty() &&
+                hotel.getState() != null && !hotel.getState().trim().isEmpty();
+    }
+}
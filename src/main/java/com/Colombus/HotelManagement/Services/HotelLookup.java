@@ -0,0 +1,7 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+
+// One entry of GET/POST /hotels/batch, in request order; hotel is null when found is false
+public record HotelLookup(long id, boolean found, Hotel hotel) {
+}
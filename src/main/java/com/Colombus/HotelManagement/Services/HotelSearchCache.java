@@ -0,0 +1,71 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Config.ReplicaReads;
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical hotel list queries (/hotels/all, /hotels/search*, /hotels/preferred). When many agents search
+ * the same destination at once, one caller runs the query in its own read-only transaction (on the replica when
+ * one is configured, see ReplicaReads), so only it borrows a pooled connection. The others share its result, which is then served from memory for app.hotels.search-cache-ttl.
+ * Every committed hotel change clears the cache.
+ */
+@Component
+public class HotelSearchCache {
+    private static final int MAX_ENTRIES = 2048;
+
+    private final SingleFlightCache<SearchKey, List<Hotel>> cache;
+    private final ReplicaReads replicaReads;
+    private final Map<SingleFlightCache.Outcome, Counter> outcomes = new EnumMap<>(SingleFlightCache.Outcome.class);
+
+    public HotelSearchCache(ReplicaReads replicaReads, MeterRegistry meterRegistry,
+                            @Value("${app.hotels.search-cache-ttl:1s}") Duration ttl) {
+        this.cache = new SingleFlightCache<>(ttl.toNanos(), MAX_ENTRIES);
+        this.replicaReads = replicaReads;
+        for (SingleFlightCache.Outcome outcome : SingleFlightCache.Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("hotel.search.requests")
+                    .description("Hotel list queries answered from the micro-cache, by joining an identical query or by loading")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    // Parameters in their key form (see key()); the caller runs its query with the trimmed parameters
+    public List<Hotel> get(String query, List<String> parameters, Supplier<List<Hotel>> loader) {
+        return cache.get(new SearchKey(query, parameters),
+                () -> replicaReads.execute(() -> List.copyOf(loader.get())),
+                outcome -> outcomes.get(outcome).increment());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (ChangeEvent.HOTELS.equals(event.channel())) {
+            cache.invalidateAll();
+        }
+    }
+
+    // The searches match case-insensitively, so queries differing only in case share a key. Whitespace inside the
+    // parameter is kept: it changes what the query matches
+    public static String key(String parameter) {
+        return trim(parameter).toLowerCase(Locale.ROOT);
+    }
+
+    public static String trim(String parameter) {
+        return parameter == null ? "" : parameter.trim();
+    }
+
+    private record SearchKey(String query, List<String> parameters) {
+    }
+}
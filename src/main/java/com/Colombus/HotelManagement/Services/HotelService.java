@@ -1,70 +1,255 @@
 package com.Colombus.HotelManagement.Services;
 
+import com.Colombus.HotelManagement.Catalog.DuplicateMatch;
+import com.Colombus.HotelManagement.Catalog.DuplicateReport;
+import com.Colombus.HotelManagement.Catalog.Gazetteer;
+import com.Colombus.HotelManagement.Catalog.GeoPoint;
+import com.Colombus.HotelManagement.Catalog.HotelCatalog;
+import com.Colombus.HotelManagement.Catalog.HotelDuplicateIndex;
+import com.Colombus.HotelManagement.Catalog.HotelGeoIndex;
+import com.Colombus.HotelManagement.Catalog.HotelSuggestIndex;
+import com.Colombus.HotelManagement.Catalog.NearbyHotel;
+import com.Colombus.HotelManagement.Catalog.Suggestion;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
 import com.Colombus.HotelManagement.Models.Hotel;
 import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class HotelService {
     private static final Logger logger = LoggerFactory.getLogger(HotelService.class);
 
+    // Attributes PATCH /hotels/{id} may set, with their JSON value type
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.ofEntries(
+            Map.entry("hotelName", String.class),
+            Map.entry("email1", String.class),
+            Map.entry("email2", String.class),
+            Map.entry("address", String.class),
+            Map.entry("mobilePhoneContact", String.class),
+            Map.entry("landlineContact", String.class),
+            Map.entry("concerningPersonName", String.class),
+            Map.entry("preferred", Boolean.class),
+            Map.entry("website", String.class),
+            Map.entry("city", String.class),
+            Map.entry("state", String.class));
+    private static final Set<String> REQUIRED_FIELDS = Set.of(
+            "hotelName", "email1", "address", "mobilePhoneContact", "concerningPersonName", "preferred", "city", "state");
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final int MAX_NEARBY_RESULTS = 200;
+    public static final int MAX_BATCH_IDS = 500;
+
     @Autowired
     private HotelRepository hotelRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Autowired
+    private HotelCatalog hotelCatalog;
+
+    @Autowired
+    private HotelGeoIndex hotelGeoIndex;
+
+    @Autowired
+    private HotelSuggestIndex hotelSuggestIndex;
+
+    @Autowired
+    private HotelDuplicateIndex hotelDuplicateIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotelSearchCache hotelSearchCache;
+
+    // Served from the catalog once it is loaded (from the database or a snapshot). Until then, and for the other list
+    // queries, through hotelSearchCache: identical concurrent calls share one query and its result
     public List<Hotel> getAllHotels() {
-        return hotelRepository.findAll();
+        if (hotelCatalog.isLoaded()) {
+            return hotelCatalog.all().stream().sorted(Comparator.comparing(Hotel::getId)).toList();
+        }
+        return hotelSearchCache.get("all", List.of(), hotelRepository::findAll);
     }
 
     public Optional<Hotel> getHotelById(Long id) {
-        return hotelRepository.findById(id);
+        Optional<Hotel> hotel = hotelCatalog.isLoaded() ? hotelCatalog.get(id) : hotelRepository.findById(id);
+        hotel.ifPresent(found -> hotelSuggestIndex.recordView(found.getId())); // Popularity for suggestions
+        return hotel;
     }
 
+    // Several hotels in one round trip, in the order asked for, with not-found entries for unknown ids
+    @Transactional(readOnly = true)
+    public List<HotelLookup> getHotelsByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " ids can be fetched at once");
+        }
+        // Not contains(null), which throws for List.of and other immutable lists
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        List<Hotel> hotels = hotelRepository.findAllByIdInOrder(ids);
+        List<HotelLookup> lookups = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Hotel hotel = hotels.get(i);
+            if (hotel != null) {
+                hotelSuggestIndex.recordView(hotel.getId());
+            }
+            lookups.add(new HotelLookup(ids.get(i), hotel != null, hotel));
+        }
+        return lookups;
+    }
+
+    @Transactional
     public Hotel saveHotel(Hotel hotel) {
-        return hotelRepository.save(hotel);
+        boolean created = hotel.getId() == null;
+        Hotel saved = persist(hotel);
+        publish(created ? ChangeEvent.CREATED : ChangeEvent.UPDATED, saved);
+        return saved;
     }
 
+    @Transactional
     public void deleteHotel(Long id) {
-        hotelRepository.deleteById(id);
+        // Locked, so of two concurrent deletes only the first writes a tombstone; the second finds nothing
+        Hotel hotel = hotelRepository.findByIdForUpdate(id).orElseThrow(() -> new EntityNotFoundException("Hotel not found"));
+        ChangeLogEntry entry = changeLogService.record(ChangeLogEntry.HOTEL, id, true);
+        hotelRepository.delete(hotel);
+        publish(ChangeEvent.DELETED, Map.of("id", id, "changeVersion", entry.getId()));
+    }
+
+    // Autocomplete for search boxes, answered from memory; type is hotel, city, state or null for all three
+    public List<Suggestion> suggest(String prefix, String type, int limit) {
+        if (type != null && !Set.of(HotelSuggestIndex.HOTEL, HotelSuggestIndex.CITY, HotelSuggestIndex.STATE).contains(type)) {
+            throw new IllegalArgumentException("type must be hotel, city or state");
+        }
+        return hotelSuggestIndex.suggest(prefix, type, limit);
+    }
+
+    // Clusters of hotels that are probably the same property, from the in-memory duplicate index
+    public DuplicateReport findDuplicateHotels() {
+        return hotelDuplicateIndex.findDuplicates();
+    }
+
+    // Hotels within the radius, nearest first, answered from the in-memory index
+    public List<NearbyHotel> findNearbyHotels(double latitude, double longitude, double radiusKm, int limit) {
+        return hotelGeoIndex.nearby(latitude, longitude, radiusKm, Math.max(1, Math.min(limit, MAX_NEARBY_RESULTS)));
+    }
+
+    // Hotels changed after a change version, for clients that keep a local copy of the catalog.
+    // Repeated entries of one hotel collapse into its current row; deleted hotels are returned as ids.
+    @Transactional(readOnly = true)
+    public HotelChanges getChangesSince(long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PAGE_SIZE));
+        List<ChangeLogEntry> entries = changeLogService.changesSince(ChangeLogEntry.HOTEL, since, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        Set<Long> changedIds = new LinkedHashSet<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            if (entry.getEntityId() == null) {
+                continue;
+            }
+            if (entry.isDeleted()) {
+                changedIds.remove(entry.getEntityId());
+                deletedIds.add(entry.getEntityId());
+            } else {
+                deletedIds.remove(entry.getEntityId());
+                changedIds.add(entry.getEntityId());
+            }
+        }
+        // A hotel deleted after this page's last entry is skipped here and reported with its tombstone later
+        List<Hotel> hotels = changedIds.isEmpty() ? List.of() : hotelRepository.findAllById(changedIds);
+        long version = entries.isEmpty() ? since : entries.get(entries.size() - 1).getId();
+        return new HotelChanges(since, version, hotels, List.copyOf(deletedIds), hasMore);
     }
 
     public List<Hotel> searchHotelsByName(String name) {
-        return hotelRepository.findByHotelNameContainingIgnoreCase(name);
+        String trimmedName = HotelSearchCache.trim(name);
+        return hotelSearchCache.get("name", List.of(HotelSearchCache.key(name)),
+                () -> hotelRepository.findByHotelNameContainingIgnoreCase(trimmedName));
     }
 
     public List<Hotel> getPreferredHotels() {
-        return hotelRepository.findByPreferredTrue();
+        return hotelSearchCache.get("preferred", List.of(), hotelRepository::findByPreferredTrue);
     }
 
     public List<Hotel> searchHotelsByCity(String city) {
-        return hotelRepository.findByCityContainingIgnoreCase(city);
+        String trimmedCity = HotelSearchCache.trim(city);
+        return hotelSearchCache.get("city", List.of(HotelSearchCache.key(city)),
+                () -> hotelRepository.findByCityContainingIgnoreCase(trimmedCity));
     }
 
     public List<Hotel> searchHotelsByState(String state) {
-        return hotelRepository.findByStateContainingIgnoreCase(state);
+        String trimmedState = HotelSearchCache.trim(state);
+        return hotelSearchCache.get("state", List.of(HotelSearchCache.key(state)),
+                () -> hotelRepository.findByStateContainingIgnoreCase(trimmedState));
     }
 
     public List<Hotel> searchHotelsByCityAndState(String city, String state) {
-        return hotelRepository.findByCityContainingIgnoreCaseAndStateContainingIgnoreCase(city, state);
+        String trimmedCity = HotelSearchCache.trim(city);
+        String trimmedState = HotelSearchCache.trim(state);
+        return hotelSearchCache.get("location", List.of(HotelSearchCache.key(city), HotelSearchCache.key(state)),
+                () -> hotelRepository.findByCityContainingIgnoreCaseAndStateContainingIgnoreCase(trimmedCity, trimmedState));
     }
 
+    @Transactional
     public Hotel addHotel(Hotel hotel) {
-        return hotelRepository.save(hotel);
+        hotel.setVersion(null); // A client-supplied version would make save() treat the hotel as existing
+        Hotel saved = persist(hotel);
+        publish(ChangeEvent.CREATED, saved);
+        return saved;
     }
 
-    // Update hotel details
-    public Hotel updateHotel(Long id, Hotel updatedHotel) {
+    // Update hotel details. The expected version is the If-Match header or else the version in the body; when the
+    // stored hotel has moved past it the update fails with ObjectOptimisticLockingFailureException.
+    @Transactional
+    public Hotel updateHotel(Long id, Hotel updatedHotel, Long expectedVersion) {
+        Long expected = expectedVersion != null ? expectedVersion : updatedHotel.getVersion();
         return hotelRepository.findById(id).map(hotel -> {
+            if (expected != null && !expected.equals(hotel.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Hotel.class, id);
+            }
             hotel.setHotelName(updatedHotel.getHotelName());
             hotel.setEmail1(updatedHotel.getEmail1());
             hotel.setEmail2(updatedHotel.getEmail2());
@@ -76,113 +261,191 @@ public class HotelService {
             hotel.setCity(updatedHotel.getCity());
             hotel.setState(updatedHotel.getState());
             hotel.setWebsite(updatedHotel.getWebsite());
-            return hotelRepository.save(hotel);
+            Hotel saved = persist(hotel);
+            publish(ChangeEvent.UPDATED, saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Hotel not found"));
     }
 
-    public List<Hotel> processCSVFile(MultipartFile file) throws IOException {
-        List<Hotel> hotels = new ArrayList<>();
-        List<Hotel> savedHotels = new ArrayList<>();
-        List<String> errors = new ArrayList<>();
-        int lineNumber = 0;
-        
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line;
-            // Skip header line
-            reader.readLine();
-            lineNumber = 1;
-            
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                logger.info("Processing line {}: {}", lineNumber, line);
-                
-                try {
-                    String[] data = line.split(",");
-                    if (data.length < 11) { // Ensure we have all required fields
-                        String error = "Line " + lineNumber + " has insufficient fields: " + data.length + " (needs at least 11)";
-                        logger.warn(error);
-                        errors.add(error);
-                        continue;
-                    }
-                    
-                    Hotel hotel = new Hotel();
-                    hotel.setHotelName(data[0].trim());
-                    hotel.setEmail1(data[1].trim());
-                    hotel.setEmail2(data[2].trim().isEmpty() ? null : data[2].trim());
-                    hotel.setAddress(data[3].trim());
-                    hotel.setMobilePhoneContact(data[4].trim());
-                    hotel.setLandlineContact(data[5].trim().isEmpty() ? null : data[5].trim());
-                    hotel.setConcerningPersonName(data[6].trim());
-                    
-                    try {
-                        hotel.setPreferred(Boolean.parseBoolean(data[7].trim()));
-                    } catch (Exception e) {
-                        logger.warn("Invalid boolean value for 'preferred' at line {}: '{}'. Setting to false.", 
-                            lineNumber, data[7]);
-                        hotel.setPreferred(false);
-                    }
-                    
-                    hotel.setCity(data[8].trim());
-                    hotel.setState(data[9].trim());
-                    hotel.setWebsite(data[10].trim().isEmpty() ? null : data[10].trim());
-                    
-                    // Validate required fields
-                    if (isValidHotel(hotel)) {
-                        logger.info("Valid hotel found at line {}: {}", lineNumber, hotel.getHotelName());
-                        hotels.add(hotel);
-                    } else {
-                        String error = "Line " + lineNumber + " has invalid hotel data: Missing required fields";
-                        logger.warn(error);
-                        errors.add(error);
-                    }
-                } catch (Exception e) {
-                    String error = "Error processing line " + lineNumber + ": " + e.getMessage();
-                    logger.error(error, e);
-                    errors.add(error);
+    // Apply only the supplied fields; returns the new version. With an expected version (If-Match) this is one
+    // conditional UPDATE and no prior SELECT, and a concurrent change fails with ObjectOptimisticLockingFailureException.
+    @Transactional
+    public long patchHotel(Long id, Map<String, Object> fields, Long expectedVersion) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach((name, value) -> {
+            Class<?> type = PATCHABLE_FIELDS.get(name);
+            if (type == null) {
+                throw new IllegalArgumentException("Field cannot be updated: " + name);
+            }
+            if (value == null || (value instanceof String text && text.trim().isEmpty())) {
+                if (REQUIRED_FIELDS.contains(name)) {
+                    throw new IllegalArgumentException(name + " is required");
                 }
+                values.put(name, null);
+            } else if (type.isInstance(value)) {
+                values.put(name, value);
+            } else {
+                throw new IllegalArgumentException(name + " must be a " + type.getSimpleName().toLowerCase(Locale.ROOT));
             }
+        });
+
+        if (values.containsKey("city") || values.containsKey("state")) {
+            locate(id, values);
         }
+        values.put("changeVersion", changeLogService.record(ChangeLogEntry.HOTEL, id, false).getId());
+        long version;
+        if (expectedVersion == null) {
+            // Without a version to match the new one is unknown up front: update the entity and read it back
+            Hotel hotel = hotelRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Hotel not found"));
+            BeanWrapper properties = PropertyAccessorFactory.forBeanPropertyAccess(hotel);
+            values.forEach(properties::setPropertyValue);
+            version = hotelRepository.saveAndFlush(hotel).getVersion();
+        } else {
+            if (hotelRepository.patchHotel(id, values, expectedVersion) == 0) {
+                // Only the failure path reads the row, to tell a stale version from a missing hotel
+                if (hotelRepository.existsById(id)) {
+                    throw new ObjectOptimisticLockingFailureException(Hotel.class, id);
+                }
+                throw new EntityNotFoundException("Hotel not found");
+            }
+            version = expectedVersion + 1;
+        }
+
+        // Only the changed fields; subscribers merge them into their copy
+        Map<String, Object> change = new LinkedHashMap<>(values);
+        change.put("id", id);
+        change.put("version", version);
+        publish(ChangeEvent.UPDATED, change);
+        return version;
+    }
+
+    public List<Hotel> processCSVFile(MultipartFile file) throws IOException {
+        return processCSVFile(file, false);
+    }
+
+    // With checkDuplicates, rows resembling an existing hotel (or an earlier row of the file) are skipped
+    public List<Hotel> processCSVFile(MultipartFile file, boolean checkDuplicates) throws IOException {
+        long parseStart = System.nanoTime();
+        HotelCsvParser.Result parsed;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
+            parsed = HotelCsvParser.parse(reader);
+        }
+        List<Hotel> hotels = parsed.hotels();
+        List<Hotel> savedHotels = new ArrayList<>();
+        List<String> errors = new ArrayList<>(parsed.errors());
+        int lineNumber = parsed.lines();
         
+        recordCsvStage("parse", parseStart, hotels.size(), Math.max(0, lineNumber - 1 - hotels.size()));
+
         if (hotels.isEmpty()) {
-            logger.warn("No valid hotels found in CSV file. Errors: {}", errors);
+            logger.warn("No valid hotels found in CSV file ({} errors)", errors.size());
             throw new IOException("No valid hotels found in the CSV file. Errors: " + String.join("; ", errors));
         }
         
         logger.info("Saving {} valid hotels to database", hotels.size());
         
         // Save hotels individually to handle duplicates gracefully
+        long saveStart = System.nanoTime();
         for (Hotel hotel : hotels) {
+            if (checkDuplicates) {
+                List<DuplicateMatch> matches = hotelDuplicateIndex.findMatches(hotel);
+                if (!matches.isEmpty()) {
+                    errors.add("Skipped possible duplicate: " + hotel.getHotelName() + " - resembles hotel #" + matches.get(0).otherHotelId());
+                    continue;
+                }
+            }
             try {
-                Hotel savedHotel = hotelRepository.save(hotel);
+                // One transaction per row, so a duplicate only skips its own row
+                Hotel savedHotel = transactionTemplate.execute(status -> persist(hotel));
                 savedHotels.add(savedHotel);
-                logger.info("Successfully saved hotel: {}", hotel.getHotelName());
+                publish(ChangeEvent.CREATED, savedHotel);
             } catch (Exception e) {
                 String errorMsg = e.getMessage();
                 if (errorMsg != null && (
                     errorMsg.contains("Duplicate") || 
                     errorMsg.contains("constraint") || 
                     errorMsg.contains("unique"))) {
-                    logger.warn("Skipping duplicate hotel: {} - {}", hotel.getHotelName(), errorMsg);
                     errors.add("Skipped duplicate: " + hotel.getHotelName() + " - " + getConstraintField(errorMsg));
                 } else {
-                    logger.error("Error saving hotel: " + hotel.getHotelName(), e);
+                    logger.warn("Error saving hotel from CSV: {}", e.getMessage());
                     errors.add("Error saving: " + hotel.getHotelName() + " - " + e.getMessage());
                 }
             }
         }
         
+        recordCsvStage("save", saveStart, savedHotels.size(), hotels.size() - savedHotels.size());
+
         if (savedHotels.isEmpty()) {
             throw new IOException("Could not save any hotels. " + String.join("; ", errors));
         }
         
-        logger.info("Successfully saved {}/{} hotels", savedHotels.size(), hotels.size());
-        if (!errors.isEmpty()) {
-            logger.warn("Some hotels were not saved: {}", errors);
-        }
+        logger.info("Saved {}/{} hotels from CSV ({} lines, {} errors)",
+                savedHotels.size(), hotels.size(), lineNumber, errors.size());
         
         return savedHotels;
     }
     
+    // Insert or update with a new change version; must run inside a transaction
+    private Hotel persist(Hotel hotel) {
+        locate(hotel);
+        ChangeLogEntry entry = changeLogService.record(ChangeLogEntry.HOTEL, hotel.getId(), false);
+        hotel.setChangeVersion(entry.getId());
+        Hotel saved = hotelRepository.save(hotel);
+        entry.setEntityId(saved.getId()); // New hotels only get their id from the insert
+        return saved;
+    }
+
+    // csv.import.rows{stage,outcome} over csv.import.stage{stage} gives the rows per second of each stage
+    private void recordCsvStage(String stage, long startNanos, int accepted, int rejected) {
+        long elapsed = System.nanoTime() - startNanos;
+        Timer.builder("csv.import.stage")
+                .description("Time spent in each stage of a CSV hotel import")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        csvRows(stage, "accepted").increment(accepted);
+        csvRows(stage, "rejected").increment(rejected);
+        logger.info("CSV {} stage: {} rows accepted, {} rejected in {} ms", stage, accepted, rejected, elapsed / 1_000_000);
+    }
+
+    private Counter csvRows(String stage, String outcome) {
+        return Counter.builder("csv.import.rows")
+                .description("CSV import rows by stage and outcome")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void locate(Hotel hotel) {
+        GeoPoint point = gazetteer.locate(hotel.getCity(), hotel.getState()).orElse(null);
+        hotel.setLatitude(point != null ? point.latitude() : null);
+        hotel.setLongitude(point != null ? point.longitude() : null);
+    }
+
+    // A PATCH of city or state moves the hotel; the unchanged half of the location comes from the catalog
+    private void locate(Long id, Map<String, Object> values) {
+        String city = (String) values.get("city");
+        String state = (String) values.get("state");
+        if (city == null || state == null) {
+            Optional<Hotel> current = hotelCatalog.get(id).or(() -> hotelRepository.findById(id));
+            if (current.isEmpty()) {
+                return; // Missing hotel, reported by the update
+            }
+            city = city != null ? city : current.get().getCity();
+            state = state != null ? state : current.get().getState();
+        }
+        GeoPoint point = gazetteer.locate(city, state).orElse(null);
+        values.put("latitude", point != null ? point.latitude() : null);
+        values.put("longitude", point != null ? point.longitude() : null);
+    }
+
+    private void publish(String type, Object data) {
+        eventPublisher.publishEvent(new ChangeEvent(ChangeEvent.HOTELS, type, data));
+    }
+
     private String getConstraintField(String errorMsg) {
         if (errorMsg.contains("email1")) return "Duplicate email1";
         if (errorMsg.contains("email2")) return "Duplicate email2";
@@ -191,28 +454,4 @@ public class HotelService {
         if (errorMsg.contains("landline_contact")) return "Duplicate landline";
         return "Duplicate entry";
     }
-    
-    private boolean isValidHotel(Hotel hotel) {
-        boolean isValid = hotel.getHotelName() != null && !hotel.getHotelName().trim().isEmpty() &&
-                hotel.getEmail1() != null && !hotel.getEmail1().trim().isEmpty() &&
-                hotel.getMobilePhoneContact() != null && !hotel.getMobilePhoneContact().trim().isEmpty() &&
-                hotel.getAddress() != null && !hotel.getAddress().trim().isEmpty() &&
-                hotel.getConcerningPersonName() != null && !hotel.getConcerningPersonName().trim().isEmpty() &&
-                hotel.getCity() != null && !hotel.getCity().trim().isEmpty() &&
-                hotel.getState() != null && !hotel.getState().trim().isEmpty();
-                
-        if (!isValid) {
-            logger.warn("Invalid hotel data: hotelName={}, email1={}, mobilePhone={}, address={}, concerningPerson={}, city={}, state={}",
-                hotel.getHotelName(),
-                hotel.getEmail1(),
-                hotel.getMobilePhoneContact(),
-                hotel.getAddress(),
-                hotel.getConcerningPersonName(),
-                hotel.getCity(),
-                hotel.getState()
-            );
-        }
-        
-        return isValid;
-    }
 }
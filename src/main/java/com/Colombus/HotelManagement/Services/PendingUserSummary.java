@@ -0,0 +1,16 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.User;
+
+import java.time.LocalDateTime;
+
+// What admins see of a user awaiting approval (never the password hash)
+public record PendingUserSummary(Long id, String userName, String email, String companyName,
+                                 String contactNumber, String mobileNumber, String address, String city,
+                                 String state, String website, String concerningPersonName, LocalDateTime createdAt) {
+    public static PendingUserSummary of(User user) {
+        return new PendingUserSummary(user.getId(), user.getUserName(), user.getEmail(), user.getCompanyName(),
+                user.getContactNumber(), user.getMobileNumber(), user.getAddress(), user.getCity(),
+                user.getState(), user.getWebsite(), user.getConcerningPersonName(), user.getCreatedAt());
+    }
+}
@@ -0,0 +1,103 @@
+package com.Colombus.HotelManagement.Services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loading with a short-lived result cache. Concurrent calls for the same key share one load: the first
+ * caller runs the loader on its own thread and the others wait for its result (or its exception). Results are then
+ * served from memory for the TTL. invalidateAll() drops cached results and detaches loads already running, so a
+ * caller arriving after an invalidation never receives a result that was loaded before it.
+ */
+final class SingleFlightCache<K, V> {
+    enum Outcome { HIT, COALESCED, LOADED }
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<K, Entry<V>> cached = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    SingleFlightCache(long ttlNanos, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+    }
+
+    V get(K key, Supplier<V> loader) {
+        return get(key, loader, outcome -> { });
+    }
+
+    V get(K key, Supplier<V> loader, Consumer<Outcome> observer) {
+        long currentGeneration = generation.get();
+        Entry<V> entry = cached.get(key);
+        if (entry != null && entry.generation() == currentGeneration && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+            observer.accept(Outcome.HIT);
+            return entry.value();
+        }
+
+        Flight<V> flight = new Flight<>(currentGeneration, new CompletableFuture<>());
+        Flight<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            observer.accept(Outcome.COALESCED);
+            return await(leader);
+        }
+
+        observer.accept(Outcome.LOADED);
+        long loadStart = System.nanoTime();
+        try {
+            V value = loader.get();
+            // A load that overlapped an invalidation is handed to its waiters but not cached
+            if (ttlNanos > 0 && generation.get() == flight.generation()) {
+                if (cached.size() >= maxEntries) {
+                    evictExpired();
+                }
+                cached.put(key, new Entry<>(value, loadStart, flight.generation()));
+            }
+            flight.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        cached.clear();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        cached.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+        if (cached.size() >= maxEntries) {
+            cached.clear();
+        }
+    }
+
+    private static <V> V await(Flight<V> flight) {
+        try {
+            return flight.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt, long generation) {
+    }
+
+    private record Flight<V>(long generation, CompletableFuture<V> result) {
+    }
+}
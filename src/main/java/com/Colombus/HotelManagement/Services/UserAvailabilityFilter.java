@@ -0,0 +1,236 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Repositories.UserIdentity;
+import com.Colombus.HotelManagement.Repositories.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory membership filter of taken usernames and emails.
+ * A negative answer means the value is definitely free and needs no database query; a positive answer
+ * must be confirmed against the database. Until the filter is built every lookup counts as positive.
+ * The filter is sized for twice the users it was built with and rebuilt in the background once more users than
+ * that have been added, so the false-positive rate stays near its target as users register.
+ */
+@Component
+public class UserAvailabilityFilter {
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityFilter.class);
+    private static final int MIN_CAPACITY = 10_000;
+
+    private final UserRepository userRepository;
+    private final double targetFalsePositiveRate;
+    private final Lock buildLock = new ReentrantLock();
+    // Registrations that happen while a rebuild is reading the table, replayed into the new filters
+    private final Queue<String[]> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final LookupStats userNameStats = new LookupStats();
+    private final LookupStats emailStats = new LookupStats();
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile Filters filters;
+    private volatile boolean building;
+    private long generations; // Guarded by buildLock
+
+    public UserAvailabilityFilter(UserRepository userRepository, MeterRegistry meterRegistry,
+                                  @Value("${app.users.availability-filter.false-positive-rate:0.01}") double targetFalsePositiveRate) {
+        this.userRepository = userRepository;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        userNameStats.register(meterRegistry, "userName");
+        emailStats.register(meterRegistry, "email");
+        Gauge.builder("users.availability.filter.expected.false.positive.rate", this,
+                        f -> f.filters != null ? f.filters.userNames().expectedFalsePositiveRate() : Double.NaN)
+                .description("Theoretical false-positive probability of the username filter at its current fill")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            building = true;
+            long start = System.nanoTime();
+            List<UserIdentity> users = userRepository.findAllIdentities();
+
+            int capacity = Math.max(users.size() * 2, MIN_CAPACITY);
+            Filters rebuilt = new Filters(
+                    new CountingBloomFilter(capacity, targetFalsePositiveRate),
+                    new CountingBloomFilter(capacity, targetFalsePositiveRate),
+                    capacity, ++generations, new AtomicInteger());
+            for (UserIdentity user : users) {
+                rebuilt.add(user.getUserName(), user.getEmail());
+            }
+            filters = rebuilt;
+            replayPendingAdds(rebuilt);
+            building = false;
+            replayPendingAdds(rebuilt);
+
+            logger.info("User availability filter built with {} users in {} ms",
+                    users.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Could not build user availability filter, lookups will use the database: {}", e.getMessage());
+        } finally {
+            building = false;
+            buildLock.unlock();
+        }
+    }
+
+    public boolean isBuilt() {
+        return filters != null;
+    }
+
+    public boolean mightContainUserName(String userName) {
+        Filters current = filters;
+        return userNameStats.record(current == null || current.userNames().mightContain(normalize(userName)));
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return emailStats.record(current == null || current.emails().mightContain(normalize(email)));
+    }
+
+    // Report the database answer for a value the filter said might be taken
+    public void confirmUserName(boolean taken) {
+        userNameStats.confirm(taken);
+    }
+
+    public void confirmEmail(boolean taken) {
+        emailStats.confirm(taken);
+    }
+
+    public void recordAdded(String userName, String email) {
+        Filters current = filters;
+        if (current != null) {
+            current.add(userName, email);
+            if (current.entries().get() > current.capacity()) {
+                scheduleRebuild();
+            }
+        }
+        if (building) {
+            pendingAdds.add(new String[]{userName, email});
+        }
+    }
+
+    /**
+     * An event to publish in the transaction that deletes a user; the filter forgets the user once it has committed.
+     * It only does so if the filter has not been rebuilt since, as a rebuild may not have seen the user: removing a
+     * value that was never added would clear counters shared with other values and turn them into false negatives.
+     * A user kept by mistake only costs a database confirmation.
+     */
+    public UserRemoved removal(String userName, String email) {
+        Filters current = filters;
+        return new UserRemoved(userName, email, current == null || building ? -1 : current.generation());
+    }
+
+    public record UserRemoved(String userName, String email, long generation) {
+    }
+
+    // After commit, so a rolled-back deletion never reports a user that still exists as free
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRemoved(UserRemoved removed) {
+        Filters current = filters;
+        if (current != null && current.generation() == removed.generation()) {
+            current.remove(removed.userName(), removed.email());
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            logger.info("User availability filter is over capacity, rebuilding it larger");
+            Thread.ofVirtual().name("user-filter-rebuild").start(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private void replayPendingAdds(Filters target) {
+        String[] entry;
+        while ((entry = pendingAdds.poll()) != null) {
+            target.add(entry[0], entry[1]);
+        }
+    }
+
+    private static String normalize(String value) {
+        // MySQL's default collation compares case-insensitively, so the filter does too
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // entries counts the users added (less those removed); capacity is the number the filters were sized for
+    private record Filters(CountingBloomFilter userNames, CountingBloomFilter emails,
+                           int capacity, long generation, AtomicInteger entries) {
+        void add(String userName, String email) {
+            if (userName != null) userNames.add(normalize(userName));
+            if (email != null) emails.add(normalize(email));
+            entries.incrementAndGet();
+        }
+
+        void remove(String userName, String email) {
+            if (userName != null) userNames.remove(normalize(userName));
+            if (email != null) emails.remove(normalize(email));
+            entries.decrementAndGet();
+        }
+    }
+
+    private static final class LookupStats {
+        private final LongAdder definiteNegatives = new LongAdder();
+        private final LongAdder possiblePositives = new LongAdder();
+        private final LongAdder falsePositives = new LongAdder();
+
+        boolean record(boolean mightContain) {
+            (mightContain ? possiblePositives : definiteNegatives).increment();
+            return mightContain;
+        }
+
+        void confirm(boolean taken) {
+            if (!taken) {
+                falsePositives.increment();
+            }
+        }
+
+        // Share of free values that the filter still sent to the database
+        double falsePositiveRate() {
+            long fp = falsePositives.sum();
+            long negatives = fp + definiteNegatives.sum();
+            return negatives == 0 ? 0.0 : (double) fp / negatives;
+        }
+
+        void register(MeterRegistry registry, String field) {
+            FunctionCounter.builder("users.availability.filter.lookups", definiteNegatives, LongAdder::sum)
+                    .tag("field", field).tag("result", "negative")
+                    .description("Lookups answered from memory without a database query")
+                    .register(registry);
+            FunctionCounter.builder("users.availability.filter.lookups", possiblePositives, LongAdder::sum)
+                    .tag("field", field).tag("result", "possible")
+                    .description("Lookups that needed a database confirmation")
+                    .register(registry);
+            FunctionCounter.builder("users.availability.filter.false.positives", falsePositives, LongAdder::sum)
+                    .tag("field", field)
+                    .register(registry);
+            Gauge.builder("users.availability.filter.false.positive.rate", this, LookupStats::falsePositiveRate)
+                    .tag("field", field)
+                    .description("Observed false positives / all lookups of free values")
+                    .register(registry);
+        }
+    }
+}
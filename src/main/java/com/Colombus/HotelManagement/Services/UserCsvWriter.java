@@ -0,0 +1,51 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.User;
+
+import java.util.List;
+
+// The travel agent export of GET /auth/users/download-csv
+public final class UserCsvWriter {
+    private static final String HEADER = "ID,Username,Email,Company Name,Contact Person,Contact Number,Mobile Number,Address,City,State,Website,Role,Approved\n";
+
+    private UserCsvWriter() {
+    }
+
+    public static String write(List<User> users) {
+        StringBuilder csvContent = new StringBuilder();
+        // Add CSV header
+        csvContent.append(HEADER);
+        
+        // Add data rows
+        for (User user : users) {
+            csvContent.append(user.getId()).append(",");
+            csvContent.append(escapeCsvField(user.getUserName())).append(",");
+            csvContent.append(escapeCsvField(user.getEmail())).append(",");
+            csvContent.append(escapeCsvField(user.getCompanyName())).append(",");
+            csvContent.append(escapeCsvField(user.getConcerningPersonName())).append(",");
+            csvContent.append(escapeCsvField(user.getContactNumber())).append(",");
+            csvContent.append(escapeCsvField(user.getMobileNumber())).append(",");
+            csvContent.append(escapeCsvField(user.getAddress())).append(",");
+            csvContent.append(escapeCsvField(user.getCity())).append(",");
+            csvContent.append(escapeCsvField(user.getState())).append(",");
+            csvContent.append(escapeCsvField(user.getWebsite())).append(",");
+            csvContent.append(escapeCsvField(user.getRole())).append(",");
+            csvContent.append(user.isApproved()).append("\n");
+        }
+        return csvContent.toString();
+    }
+
+    // Helper method to escape CSV fields that may contain commas
+    public static String escapeCsvField(String field) {
+        if (field == null) {
+            return "";
+        }
+        
+        // If the field contains commas, quotes, or newlines, wrap it in quotes and escape any quotes
+        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        
+        return field;
+    }
+}
@@ -1,46 +1,159 @@
 package com.Colombus.HotelManagement.Services;
 
+import com.Colombus.HotelManagement.Config.ReplicaReads;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
 import com.Colombus.HotelManagement.Models.User;
 import com.Colombus.HotelManagement.Repositories.UserRepository;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogService changeLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReplicaReads replicaReads;
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 500;
 
-    public UserService(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder) {
+    // Becomes true once any user is known to exist, so later registrations skip the count() query
+    private volatile boolean usersExist;
+    private final Lock bootstrapLock = new ReentrantLock();
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       UserAvailabilityFilter availabilityFilter, ApplicationEventPublisher eventPublisher,
+                       ChangeLogService changeLogService, TransactionTemplate transactionTemplate,
+                       ReplicaReads replicaReads) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.availabilityFilter = availabilityFilter;
+        this.eventPublisher = eventPublisher;
+        this.changeLogService = changeLogService;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaReads = replicaReads;
     }
 
-    // Register a new user
+    // Register a new user with a single INSERT; the unique constraints catch duplicates
     public User registerUser(User user) {
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists!");
-        }
-        if (userRepository.existsByUserName(user.getUserName())) {
-            throw new RuntimeException("Username already taken!");
-        }
         user.setPassword(passwordEncoder.encode(user.getPassword())); // Hash password
 
-        // Assign role dynamically: If first user, make admin; otherwise, user
-        if (userRepository.count() == 0) {
+        if (!usersExist) {
+            User admin = registerIfFirstUser(user);
+            if (admin != null) {
+                return admin;
+            }
+        }
+
+        // New users need approval
+        user.setRole("USER");
+        user.setApproved(false);
+        User saved = insertUser(user);
+        publishPending(ChangeEvent.CREATED, PendingUserSummary.of(saved));
+        return saved;
+    }
+
+    // First-admin bootstrap: count() runs only until the first user is known to exist
+    private User registerIfFirstUser(User user) {
+        bootstrapLock.lock();
+        try {
+            if (!usersExist) {
+                usersExist = userRepository.count() > 0;
+            }
+            if (usersExist) {
+                return null;
+            }
+            // Auto-approve first user (admin)
             user.setRole("ADMIN");
-            user.setApproved(true); // Auto-approve first user (admin)
-        } else {
-            user.setRole("USER");
-            user.setApproved(false); // New users need approval
+            user.setApproved(true);
+            User saved = insertUser(user);
+            usersExist = true;
+            logger.info("First user registered as ADMIN: {}", saved.getUserName());
+            return saved;
+        } finally {
+            bootstrapLock.unlock();
+        }
+    }
+
+    private User insertUser(User user) {
+        try {
+            // The change-log entry commits with the row; duplicates are resolved after the rollback
+            User saved = transactionTemplate.execute(status -> {
+                User inserted = userRepository.saveAndFlush(user);
+                recordChange(inserted.getId(), false);
+                return inserted;
+            });
+            availabilityFilter.recordAdded(saved.getUserName(), saved.getEmail());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateFieldException(e, user);
         }
-        return userRepository.save(user);
+    }
+
+    private RuntimeException toDuplicateFieldException(DataIntegrityViolationException e, User user) {
+        String constraint = violatedConstraint(e);
+        if (constraint.contains(User.UK_USER_NAME)) return duplicateUserName();
+        if (constraint.contains(User.UK_EMAIL)) return duplicateEmail();
+        if (constraint.contains(User.UK_MOBILE_NUMBER)) return duplicateMobileNumber();
+        if (constraint.contains(User.UK_CONTACT_NUMBER)) return duplicateContactNumber();
+
+        // Constraint created under a legacy generated name: probe the fields, only on this failure path
+        if (userRepository.existsByUserName(user.getUserName())) return duplicateUserName();
+        if (userRepository.existsByEmail(user.getEmail())) return duplicateEmail();
+        if (userRepository.existsByMobileNumber(user.getMobileNumber())) return duplicateMobileNumber();
+        if (userRepository.existsByContactNumber(user.getContactNumber())) return duplicateContactNumber();
+        return new RuntimeException("Registration failed: missing or invalid fields");
+    }
+
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null ? message.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static DuplicateFieldException duplicateUserName() {
+        return new DuplicateFieldException("userName", "Username already taken!");
+    }
+
+    private static DuplicateFieldException duplicateEmail() {
+        return new DuplicateFieldException("email", "Email already exists!");
+    }
+
+    private static DuplicateFieldException duplicateMobileNumber() {
+        return new DuplicateFieldException("mobileNumber", "Mobile number already registered!");
+    }
+
+    private static DuplicateFieldException duplicateContactNumber() {
+        return new DuplicateFieldException("contactNumber", "Contact number already registered!");
     }
 
     // Authenticate user
@@ -55,7 +168,7 @@ public class UserService {
         User foundUser = user.get();
         boolean passwordMatches = passwordEncoder.matches(password, foundUser.getPassword());
         
-        logger.info("Authentication attempt - User: {}, PasswordMatches: {}, Role: {}, Approved: {}", 
+        logger.debug("Authentication attempt - User: {}, PasswordMatches: {}, Role: {}, Approved: {}", 
                 foundUser.getUserName(), 
                 passwordMatches, 
                 foundUser.getRole(),
@@ -65,13 +178,13 @@ public class UserService {
         if (passwordMatches) {
             // For admins, always allow login regardless of approval status
             if ("ADMIN".equals(foundUser.getRole())) {
-                logger.info("Admin login successful: {}", userName);
+                logger.debug("Admin login successful: {}", userName);
                 return user;
             }
             
             // For regular users, check approval status
             if (foundUser.isApproved()) {
-                logger.info("Approved user login successful: {}", userName);
+                logger.debug("Approved user login successful: {}", userName);
                 return user;
             }
             
@@ -91,17 +204,47 @@ public class UserService {
     
     // Get user by username
     public Optional<User> getUserByUserName(String userName) {
-        return userRepository.findByUserName(userName);
+        return userRepository.findByNaturalUserName(userName);
     }
     
-    // Get all pending approval users
-    public List<User> getPendingApprovalUsers() {
-        return userRepository.findByApprovedFalse();
+    // Username lookup for availability checks: definite negatives are answered from memory
+    public Optional<User> findUserForAvailabilityCheck(String userName) {
+        if (!availabilityFilter.mightContainUserName(userName)) {
+            return Optional.empty();
+        }
+        Optional<User> user = userRepository.findByUserName(userName);
+        availabilityFilter.confirmUserName(user.isPresent());
+        return user;
+    }
+
+    public boolean isUserNameTaken(String userName) {
+        if (!availabilityFilter.mightContainUserName(userName)) {
+            return false;
+        }
+        boolean taken = userRepository.existsByUserName(userName);
+        availabilityFilter.confirmUserName(taken);
+        return taken;
+    }
+
+    public boolean isEmailTaken(String email) {
+        if (!availabilityFilter.mightContainEmail(email)) {
+            return false;
+        }
+        boolean taken = userRepository.existsByEmail(email);
+        availabilityFilter.confirmEmail(taken);
+        return taken;
+    }
+
+    // Get one page of pending approval users, oldest registration first; may lag on the replica
+    public Page<User> getPendingApprovalUsers(int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Sort order = Sort.by("createdAt").ascending().and(Sort.by("id").ascending());
+        return replicaReads.execute(() -> userRepository.findByApprovedFalse(PageRequest.of(Math.max(page, 0), pageSize, order)));
     }
     
-    // Get all users
+    // Get all users; may lag on the replica
     public List<User> getAllUsers() {
-        return userRepository.findAll();
+        return replicaReads.execute(userRepository::findAll);
     }
     
     // Get user count
@@ -110,20 +253,81 @@ public class UserService {
     }
     
     // Approve user
+    @Transactional
     public User approveUser(Long userId) {
         User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new EntityNotFoundException("User not found"));
         user.setApproved(true);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        recordChange(saved.getId(), false);
+        publishPending(ChangeEvent.APPROVED, Map.of("id", saved.getId()));
+        return saved;
     }
     
     // Save user
+    @Transactional
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        recordChange(saved.getId(), false);
+        return saved;
     }
     
     // Reject/delete user
+    @Transactional
     public void rejectUser(Long userId) {
-        userRepository.deleteById(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            userRepository.delete(user);
+            recordChange(userId, true);
+            eventPublisher.publishEvent(availabilityFilter.removal(user.getUserName(), user.getEmail()));
+            publishPending(ChangeEvent.REJECTED, Map.of("id", userId));
+        });
+    }
+
+    // Approve several pending users with one UPDATE; returns the ids that were pending
+    @Transactional
+    public List<Long> approveUsers(Collection<Long> userIds) {
+        List<Long> pendingIds = findPendingUsers(userIds).stream().map(User::getId).toList();
+        if (!pendingIds.isEmpty()) {
+            userRepository.approvePendingByIds(pendingIds);
+            pendingIds.forEach(id -> recordChange(id, false));
+            pendingIds.forEach(id -> publishPending(ChangeEvent.APPROVED, Map.of("id", id)));
+        }
+        return pendingIds;
+    }
+
+    // Reject several pending users with one DELETE; returns the ids that were removed
+    @Transactional
+    public List<Long> rejectUsers(Collection<Long> userIds) {
+        List<User> pendingUsers = findPendingUsers(userIds);
+        List<Long> pendingIds = pendingUsers.stream().map(User::getId).toList();
+        if (!pendingIds.isEmpty()) {
+            userRepository.deletePendingByIds(pendingIds);
+            pendingIds.forEach(id -> recordChange(id, true));
+            pendingUsers.forEach(user -> eventPublisher.publishEvent(availabilityFilter.removal(user.getUserName(), user.getEmail())));
+            pendingIds.forEach(id -> publishPending(ChangeEvent.REJECTED, Map.of("id", id)));
+        }
+        return pendingIds;
+    }
+
+    // Lets the other instances drop their cached copy of the user, see ClusterChangePoller
+    private void recordChange(Long userId, boolean deleted) {
+        changeLogService.record(ChangeLogEntry.USER, userId, deleted);
+    }
+
+    // Delivered to /auth/pending-approvals/stream subscribers once the transaction commits
+    private void publishPending(String type, Object data) {
+        eventPublisher.publishEvent(new ChangeEvent(ChangeEvent.PENDING_APPROVALS, type, data));
+    }
+
+    private List<User> findPendingUsers(Collection<Long> userIds) {
+        if (userIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " users can be processed at once");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findPendingForUpdate(distinctIds);
     }
 }
@@ -0,0 +1,235 @@
+package com.Colombus.HotelManagement.Streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed changes out to Server-Sent Event subscribers.
+ * Publishing never blocks: each subscriber has a bounded queue that is drained on its own virtual thread, and a
+ * subscriber whose queue is full (a slow or stalled consumer) is disconnected; its EventSource reconnects with
+ * Last-Event-ID. Recent events are kept per channel so reconnecting clients get what they missed, or a "reset"
+ * event telling them to reload when the gap is no longer covered.
+ * Events are only seen by subscribers connected to the instance that made the change.
+ */
+@Component
+public class ChangeBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeBroadcaster.class);
+    private static final String RESET = "reset";
+    private static final long RECONNECT_MILLIS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int historySize;
+    private final long timeoutMillis;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    // Ids start from the clock so Last-Event-IDs from before a restart are recognised as too old
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter droppedSubscribers;
+
+    public ChangeBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${app.streams.queue-capacity:256}") int queueCapacity,
+                             @Value("${app.streams.history-size:256}") int historySize,
+                             @Value("${app.streams.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.historySize = historySize;
+        this.timeoutMillis = timeout.toMillis();
+        for (String name : new String[]{ChangeEvent.HOTELS, ChangeEvent.PENDING_APPROVALS}) {
+            Channel channel = new Channel();
+            channels.put(name, channel);
+            Gauge.builder("sse.subscribers", channel.subscribers, Set::size)
+                    .tag("channel", name)
+                    .register(meterRegistry);
+        }
+        this.droppedSubscribers = Counter.builder("sse.subscribers.dropped")
+                .description("Subscribers disconnected because they could not keep up")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String channelName, Long lastEventId) {
+        Channel channel = channel(channelName);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(channel, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        channel.lock.lock();
+        try {
+            if (lastEventId != null) {
+                replay(channel, subscriber, lastEventId);
+            }
+            channel.subscribers.add(subscriber);
+        } finally {
+            channel.lock.unlock();
+        }
+        return emitter;
+    }
+
+    // After commit (or immediately for writes outside a transaction), so subscribers never see rolled-back data
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        Channel channel = channel(event.channel());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event.data());
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize {} event for {}: {}", event.type(), event.channel(), e.getMessage());
+            return;
+        }
+        channel.lock.lock();
+        try {
+            Message message = new Message(sequence.incrementAndGet(), event.type(), json);
+            channel.history.addLast(message);
+            if (channel.history.size() > historySize) {
+                channel.history.removeFirst();
+            }
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.offer(message);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    // Comment lines keep proxies from closing idle streams and reveal dead connections
+    @Scheduled(fixedRateString = "${app.streams.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.offer(Message.HEARTBEAT);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private void replay(Channel channel, Subscriber subscriber, long lastEventId) {
+        long oldestAvailable = channel.history.isEmpty() ? sequence.get() + 1 : channel.history.peekFirst().id();
+        if (lastEventId + 1 < oldestAvailable || lastEventId > sequence.get()) {
+            subscriber.offer(new Message(sequence.get(), RESET, "{}"));
+            return;
+        }
+        for (Message message : channel.history) {
+            if (message.id() > lastEventId) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private Channel channel(String name) {
+        Channel channel = channels.get(name);
+        if (channel == null) {
+            throw new IllegalArgumentException("Unknown channel: " + name);
+        }
+        return channel;
+    }
+
+    private record Message(long id, String type, String json) {
+        static final Message HEARTBEAT = new Message(-1, null, null);
+    }
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // Guards history and makes replay + subscribe atomic with respect to publishing
+        final Lock lock = new ReentrantLock();
+        final Deque<Message> history = new ArrayDeque<>();
+    }
+
+    private final class Subscriber {
+        final Channel channel;
+        final SseEmitter emitter;
+        final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                droppedSubscribers.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        // Runs on one sender thread at a time, so the emitter is never written concurrently
+        private void drain() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    emitter.send(toEvent(message));
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // A message offered after the loop ended but before the flag was cleared
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void close() {
+            closed = true;
+            channel.subscribers.remove(this);
+            queue.clear();
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(Message message) {
+            if (message == Message.HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .id(Long.toString(message.id()))
+                    .name(message.type())
+                    .reconnectTime(RECONNECT_MILLIS)
+                    .data(message.json(), MediaType.APPLICATION_JSON);
+        }
+    }
+}
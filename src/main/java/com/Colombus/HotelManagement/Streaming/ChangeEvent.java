@@ -0,0 +1,16 @@
+package com.Colombus.HotelManagement.Streaming;
+
+/**
+ * A committed write, published with ApplicationEventPublisher and pushed to the subscribers of its channel.
+ * The data is serialized to JSON once and sent as the SSE event's data; the type becomes the SSE event name.
+ */
+public record ChangeEvent(String channel, String type, Object data) {
+    public static final String HOTELS = "hotels";
+    public static final String PENDING_APPROVALS = "pending-approvals";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String APPROVED = "approved";
+    public static final String REJECTED = "rejected";
+}
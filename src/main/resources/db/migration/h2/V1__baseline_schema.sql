@@ -0,0 +1,41 @@
+-- Same schema as db/migration/mysql/V1 for the embedded H2 database used locally and in tests
+
+CREATE TABLE IF NOT EXISTS hotels (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_name             VARCHAR(255) NOT NULL,
+    email1                 VARCHAR(255) NOT NULL,
+    email2                 VARCHAR(255),
+    address                VARCHAR(255) NOT NULL,
+    mobile_phone_contact   VARCHAR(255) NOT NULL,
+    landline_contact       VARCHAR(255),
+    concerning_person_name VARCHAR(255) NOT NULL,
+    preferred              BOOLEAN      NOT NULL,
+    website                VARCHAR(255),
+    city                   VARCHAR(255) NOT NULL,
+    state                  VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_hotels_hotel_name UNIQUE (hotel_name),
+    CONSTRAINT uk_hotels_email1 UNIQUE (email1),
+    CONSTRAINT uk_hotels_email2 UNIQUE (email2),
+    CONSTRAINT uk_hotels_landline_contact UNIQUE (landline_contact)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name           VARCHAR(255) NOT NULL,
+    address                VARCHAR(255) NOT NULL,
+    contact_number         VARCHAR(255) NOT NULL,
+    mobile_number          VARCHAR(255) NOT NULL,
+    email                  VARCHAR(255) NOT NULL,
+    user_name              VARCHAR(255) NOT NULL,
+    password               VARCHAR(255) NOT NULL,
+    concerning_person_name VARCHAR(255) NOT NULL,
+    city                   VARCHAR(255) NOT NULL,
+    state                  VARCHAR(255) NOT NULL,
+    website                VARCHAR(255),
+    role                   VARCHAR(255) NOT NULL,
+    approved               BOOLEAN      NOT NULL,
+    CONSTRAINT uk_users_contact_number UNIQUE (contact_number),
+    CONSTRAINT uk_users_mobile_number UNIQUE (mobile_number),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_user_name UNIQUE (user_name)
+);
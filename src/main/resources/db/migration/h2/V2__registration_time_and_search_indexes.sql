@@ -0,0 +1,6 @@
+ALTER TABLE users ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_hotels_state_city ON hotels (state, city);
+CREATE INDEX IF NOT EXISTS idx_hotels_preferred ON hotels (preferred);
+CREATE INDEX IF NOT EXISTS idx_users_approved_created_at ON users (approved, created_at, id);
+-- No case-insensitive lookup indexes: see the MySQL V2 for why
@@ -0,0 +1,2 @@
+-- Optimistic locking for hotels (Hotel.version, ETag / If-Match on PATCH /hotels/{id})
+ALTER TABLE hotels ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- Change log for delta sync (GET /hotels/changes): one row per write, deletes kept as tombstones
+CREATE TABLE change_log (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id   BIGINT,
+    deleted     BOOLEAN NOT NULL,
+    changed_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_change_log_type_id ON change_log (entity_type, id);
+CREATE INDEX idx_change_log_entity ON change_log (entity_type, entity_id, id);
+
+-- Version of the last change of each hotel
+ALTER TABLE hotels ADD COLUMN change_version BIGINT;
+
+-- Existing hotels get an initial entry so a client syncing from 0 receives the whole catalog
+INSERT INTO change_log (entity_type, entity_id, deleted, changed_at)
+SELECT 'hotel', id, FALSE, TIMESTAMP '2000-01-01 00:00:00' FROM hotels ORDER BY id;
+
+UPDATE hotels SET change_version = (
+    SELECT MAX(c.id) FROM change_log c WHERE c.entity_type = 'hotel' AND c.entity_id = hotels.id);
@@ -0,0 +1,3 @@
+-- Instance that wrote the entry, so each instance skips its own changes when polling for cache invalidation;
+-- NULL for entries written before this column existed
+ALTER TABLE change_log ADD COLUMN origin VARCHAR(64);
@@ -0,0 +1,7 @@
+-- Natural id for user lookups: user_name folded the way the MySQL collation compares it (case-insensitive), so names
+-- that differ only in case are one user here too and share one second-level cache entry. New rows are written by
+-- the application.
+ALTER TABLE users ADD COLUMN user_name_key VARCHAR(255);
+UPDATE users SET user_name_key = LOWER(user_name);
+ALTER TABLE users ALTER COLUMN user_name_key SET NOT NULL;
+ALTER TABLE users ADD CONSTRAINT uk_users_user_name_key UNIQUE (user_name_key);
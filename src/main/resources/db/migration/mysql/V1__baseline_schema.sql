@@ -0,0 +1,44 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS hotels (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    hotel_name             VARCHAR(255) NOT NULL,
+    email1                 VARCHAR(255) NOT NULL,
+    email2                 VARCHAR(255),
+    address                VARCHAR(255) NOT NULL,
+    mobile_phone_contact   VARCHAR(255) NOT NULL,
+    landline_contact       VARCHAR(255),
+    concerning_person_name VARCHAR(255) NOT NULL,
+    preferred              BIT          NOT NULL,
+    website                VARCHAR(255),
+    city                   VARCHAR(255) NOT NULL,
+    state                  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hotels_hotel_name UNIQUE (hotel_name),
+    CONSTRAINT uk_hotels_email1 UNIQUE (email1),
+    CONSTRAINT uk_hotels_email2 UNIQUE (email2),
+    CONSTRAINT uk_hotels_landline_contact UNIQUE (landline_contact)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    company_name           VARCHAR(255) NOT NULL,
+    address                VARCHAR(255) NOT NULL,
+    contact_number         VARCHAR(255) NOT NULL,
+    mobile_number          VARCHAR(255) NOT NULL,
+    email                  VARCHAR(255) NOT NULL,
+    user_name              VARCHAR(255) NOT NULL,
+    password               VARCHAR(255) NOT NULL,
+    concerning_person_name VARCHAR(255) NOT NULL,
+    city                   VARCHAR(255) NOT NULL,
+    state                  VARCHAR(255) NOT NULL,
+    website                VARCHAR(255),
+    role                   VARCHAR(255) NOT NULL,
+    approved               BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_contact_number UNIQUE (contact_number),
+    CONSTRAINT uk_users_mobile_number UNIQUE (mobile_number),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_user_name UNIQUE (user_name)
+) ENGINE = InnoDB;
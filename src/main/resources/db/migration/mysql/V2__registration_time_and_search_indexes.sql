@@ -0,0 +1,21 @@
+-- users.created_at orders the approval queue. Databases that ran with ddl-auto=update may already have it.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'created_at') = 0,
+              'ALTER TABLE users ADD COLUMN created_at DATETIME(6) NULL',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- HotelService.searchHotelsByCityAndState / searchHotelsByState
+CREATE INDEX idx_hotels_state_city ON hotels (state, city);
+-- HotelRepository.findByPreferredTrue
+CREATE INDEX idx_hotels_preferred ON hotels (preferred);
+-- UserRepository.findByApprovedFalse(Pageable), ordered by registration time
+CREATE INDEX idx_users_approved_created_at ON users (approved, created_at, id);
+
+-- No case-insensitive lookup columns or UPPER(...) functional indexes for the hotel *IgnoreCase finders: they are
+-- all ContainingIgnoreCase, which Spring Data renders as upper(column) LIKE upper('%x%'), and a leading wildcard rules
+-- out any B-tree range scan, so such an index would only cost writes. Repeated substring searches are absorbed by
+-- HotelSearchCache and the query cache instead. Equality on the default utf8mb4 collation already ignores case, and
+-- user names get their case-insensitive key column in V8.
@@ -0,0 +1,3 @@
+-- Coordinates resolved from the bundled gazetteer (GET /hotels/nearby); NULL when the city is not listed
+ALTER TABLE hotels ADD COLUMN latitude DOUBLE;
+ALTER TABLE hotels ADD COLUMN longitude DOUBLE;
@@ -0,0 +1,13 @@
+-- Availability calendars, run-length encoded: one row per run of consecutive nights with the same number of free
+-- rooms of a room type, from start_date up to (not including) end_date. Nights without a row have no free rooms.
+CREATE TABLE room_availability (
+    id         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    hotel_id   BIGINT      NOT NULL,
+    room_type  VARCHAR(64) NOT NULL,
+    start_date DATE        NOT NULL,
+    end_date   DATE        NOT NULL,
+    rooms      INT         NOT NULL,
+    CONSTRAINT fk_room_availability_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_room_availability_hotel ON room_availability (hotel_id, room_type, start_date);
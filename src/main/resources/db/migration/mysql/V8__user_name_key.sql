@@ -0,0 +1,6 @@
+-- Natural id for user lookups: user_name folded the way the users table collation compares it (case-insensitive),
+-- so every spelling of a name resolves to one second-level cache entry. New rows are written by the application.
+ALTER TABLE users ADD COLUMN user_name_key VARCHAR(255);
+UPDATE users SET user_name_key = LOWER(user_name);
+ALTER TABLE users MODIFY COLUMN user_name_key VARCHAR(255) NOT NULL;
+ALTER TABLE users ADD CONSTRAINT uk_users_user_name_key UNIQUE (user_name_key);
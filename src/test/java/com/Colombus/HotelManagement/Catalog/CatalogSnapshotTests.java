@@ -0,0 +1,120 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Repositories.HotelVersion;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CatalogSnapshotTests {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsAllFields() throws IOException {
+        Hotel full = hotel(1L, "Taj Mahal Palace", "Mumbai", "Maharashtra");
+        full.setEmail2("sales@taj.example.com");
+        full.setLandlineContact("0226665366");
+        full.setWebsite("https://taj.example.com");
+        full.setPreferred(true);
+        full.setLatitude(18.9217);
+        full.setLongitude(72.8330);
+        full.setVersion(3L);
+        full.setChangeVersion(42L);
+        // Optional fields left null, including the versions of a row written before they existed
+        Hotel sparse = hotel(2L, "H\u00f4tel Ganga Kin\u0101r\u0113", "Rishikesh", "Uttarakhand");
+
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, List.of(full, sparse));
+
+        assertEquals(List.of(full, sparse), CatalogSnapshot.read(file));
+    }
+
+    @Test
+    void rejectsCorruptFile() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, List.of(hotel(1L, "Umaid Bhawan", "Jodhpur", "Rajasthan")));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), 30);
+        }
+        assertThrows(IOException.class, () -> CatalogSnapshot.read(file));
+
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> CatalogSnapshot.read(file));
+    }
+
+    @Test
+    void reconciliationKeepsHotelsCreatedWhileTheVersionsWereRead() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, List.of(
+                versioned(hotel(1L, "Rambagh Palace", "Jaipur", "Rajasthan")),
+                versioned(hotel(2L, "Lake Palace", "Udaipur", "Rajasthan"))));
+        Hotel created = versioned(hotel(3L, "Falaknuma Palace", "Hyderabad", "Telangana"));
+
+        // Hotel 2 was deleted while the instance was down; hotel 3 is created on it while the versions are read
+        HotelCatalog[] catalog = new HotelCatalog[1];
+        HotelRepository repository = repository(() -> {
+            catalog[0].onChange(new ChangeEvent(ChangeEvent.HOTELS, ChangeEvent.CREATED, created));
+            return List.of(new Version(1L, 1L, 1L));
+        });
+        catalog[0] = new HotelCatalog(repository, gazetteer(), List.of(), file.toString());
+        catalog[0].loadSnapshotIfPresent();
+        catalog[0].reconcile();
+
+        assertEquals(Set.of(1L, 3L), catalog[0].all().stream().map(Hotel::getId).collect(Collectors.toSet()));
+    }
+
+    private record Version(Long getId, Long getVersion, Long getChangeVersion) implements HotelVersion {
+    }
+
+    private static HotelRepository repository(Supplier<List<HotelVersion>> versions) {
+        return (HotelRepository) Proxy.newProxyInstance(HotelRepository.class.getClassLoader(),
+                new Class<?>[] {HotelRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllVersions" -> versions.get();
+                    case "findAllById" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Gazetteer gazetteer() throws IOException {
+        return new Gazetteer(new ClassPathResource("gazetteer/in_cities.csv"), new ClassPathResource("gazetteer/city_aliases.csv"));
+    }
+
+    private static Hotel versioned(Hotel hotel) {
+        hotel.setVersion(1L);
+        hotel.setChangeVersion(1L);
+        hotel.setLatitude(26.9);
+        hotel.setLongitude(75.8);
+        return hotel;
+    }
+
+    private static Hotel hotel(Long id, String name, String city, String state) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setHotelName(name);
+        hotel.setEmail1("stay" + id + "@example.com");
+        hotel.setAddress("1 Main Road");
+        hotel.setMobilePhoneContact("98200" + id);
+        hotel.setConcerningPersonName("Manager");
+        hotel.setCity(city);
+        hotel.setState(state);
+        return hotel;
+    }
+}
@@ -0,0 +1,108 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeoGridIndexTests {
+    private static final GeoPoint MUMBAI = new GeoPoint(19.076, 72.878);
+    private static final GeoPoint THANE = new GeoPoint(19.218, 72.978);
+    private static final GeoPoint PUNE = new GeoPoint(18.520, 73.856);
+    private static final GeoPoint DELHI = new GeoPoint(28.614, 77.209);
+    private static final GeoPoint LONDON = new GeoPoint(51.507, -0.128);
+
+    @Test
+    void pointsWithinTheRadiusAreReturnedNearestFirst() {
+        GeoGridIndex<String> index = withFarPoints(index(0.1));
+
+        assertEquals(List.of("mumbai", "thane"), values(index.nearby(19.07, 72.87, 50, 10)));
+        assertEquals(List.of("mumbai", "thane", "pune"), values(index.nearby(19.07, 72.87, 150, 10)));
+        assertEquals(List.of("mumbai"), values(index.nearby(19.07, 72.87, 150, 1)));
+    }
+
+    @Test
+    void pointExactlyOnTheRadiusIsIncluded() {
+        GeoGridIndex<String> index = withFarPoints(index(0.1));
+        double radius = THANE.distanceKm(MUMBAI.latitude(), MUMBAI.longitude());
+
+        List<GeoGridIndex.Neighbor<String>> found = index.nearby(MUMBAI.latitude(), MUMBAI.longitude(), radius, 10);
+
+        assertEquals(List.of("mumbai", "thane"), values(found));
+        assertEquals(radius, found.get(1).distanceKm());
+    }
+
+    @Test
+    void radiusCrossingTheAntimeridianFindsPointsOnTheOtherSide() {
+        GeoGridIndex<String> index = withFarPoints(new GeoGridIndex<>(0.1));
+        index.put(1, new GeoPoint(-17.0, 179.95), "east");
+        index.put(2, new GeoPoint(-17.0, -179.95), "west");
+        index.put(3, new GeoPoint(-17.0, 179.0), "beyond");
+
+        assertEquals(List.of("east", "west"), values(index.nearby(-17.0, 179.99, 20, 10)));
+        assertEquals(List.of("west", "east"), values(index.nearby(-17.0, -179.99, 20, 10)));
+    }
+
+    @Test
+    void radiusReachingAPoleSearchesEveryLongitude() {
+        GeoGridIndex<String> index = withFarPoints(new GeoGridIndex<>(10));
+        index.put(1, new GeoPoint(89.95, 0), "here");
+        index.put(2, new GeoPoint(89.95, 180), "across");
+
+        assertEquals(List.of("here", "across"), values(index.nearby(89.95, 0, 20, 10)));
+    }
+
+    @Test
+    void largeRadiusScansTheOccupiedCells() {
+        GeoGridIndex<String> index = index(0.1);
+
+        assertEquals(List.of("mumbai", "thane", "pune", "delhi"), values(index.nearby(19.07, 72.87, 2000, 10)));
+        assertEquals(5, index.nearby(19.07, 72.87, 20_000, 10).size());
+    }
+
+    @Test
+    void movedPointIsFoundAtItsNewPlaceOnlyAndRemovedPointNowhere() {
+        GeoGridIndex<String> index = index(0.1);
+
+        index.put(1, DELHI, "mumbai");
+        index.remove(2);
+        index.put(3, null, "pune");
+
+        assertEquals(List.of(), values(index.nearby(19.07, 72.87, 150, 10)));
+        assertEquals(Set.of("delhi", "mumbai"), Set.copyOf(values(index.nearby(DELHI.latitude(), DELHI.longitude(), 1, 10))));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void cellSizeMustBeAPositiveFractionOfTheGlobe() {
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex<String>(91));
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex<String>(Double.NaN));
+    }
+
+    private static GeoGridIndex<String> index(double cellDegrees) {
+        GeoGridIndex<String> index = new GeoGridIndex<>(cellDegrees);
+        index.put(1, MUMBAI, "mumbai");
+        index.put(2, THANE, "thane");
+        index.put(3, PUNE, "pune");
+        index.put(4, DELHI, "delhi");
+        index.put(5, LONDON, "london");
+        return index;
+    }
+
+    // Enough occupied cells that a small radius probes the cells around it instead of scanning them all
+    private static GeoGridIndex<String> withFarPoints(GeoGridIndex<String> index) {
+        for (int i = 0; i < 720; i++) {
+            index.put(1000 + i, new GeoPoint(-60, -180 + i * 0.5), "far");
+            index.put(2000 + i, new GeoPoint(-40, -180 + i * 0.5), "far");
+        }
+        return index;
+    }
+
+    private static List<String> values(List<GeoGridIndex.Neighbor<String>> neighbors) {
+        return neighbors.stream().map(GeoGridIndex.Neighbor::value).toList();
+    }
+}
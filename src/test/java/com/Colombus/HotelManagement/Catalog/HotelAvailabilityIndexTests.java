@@ -0,0 +1,96 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotelAvailabilityIndexTests {
+    private static final LocalDate DEC_1 = LocalDate.of(2025, 12, 1);
+
+    @Test
+    void cityIsMatchedIgnoringCaseAndExtraSpaces() {
+        HotelAvailabilityIndex index = new HotelAvailabilityIndex();
+        index.put(hotel(1L, "Leela Palace", "  New   Delhi ", false));
+        index.replaceCalendars(1L, Map.of("Deluxe", open(4)));
+
+        assertEquals(List.of(1L), ids(index.available("new delhi", day(2), day(5), 1)));
+        assertEquals(List.of(1L), ids(index.available("NEW DELHI", day(2), day(5), 1)));
+        assertTrue(index.available("newdelhi", day(2), day(5), 1).isEmpty());
+    }
+
+    @Test
+    void preferredHotelsComeFirstThenByName() {
+        HotelAvailabilityIndex index = new HotelAvailabilityIndex();
+        index.put(hotel(1L, "taj exotica", "Goa", false));
+        index.put(hotel(2L, "Zuri White Sands", "Goa", true));
+        index.put(hotel(3L, "Alila Diwa", "Goa", false));
+        index.put(hotel(4L, "Cidade de Goa", "Goa", true));
+        index.put(hotel(5L, "Full House", "Goa", true));
+        for (long id = 1; id <= 4; id++) {
+            index.replaceCalendars(id, Map.of("Deluxe", open(3)));
+        }
+        index.replaceCalendars(5L, Map.of("Deluxe", open(1)));
+
+        assertEquals(List.of(4L, 2L, 3L, 1L), ids(index.available("Goa", day(0), day(7), 2)));
+    }
+
+    @Test
+    void hotelMovedToAnotherCityIsOnlyFoundThere() {
+        HotelAvailabilityIndex index = new HotelAvailabilityIndex();
+        index.put(hotel(1L, "Marine Plaza", "Goa", false));
+        index.replaceCalendars(1L, Map.of("Deluxe", open(2)));
+
+        index.put(hotel(1L, "Marine Plaza", "Mumbai", false));
+
+        assertTrue(index.available("Goa", day(0), day(3), 1).isEmpty());
+        assertEquals(List.of(1L), ids(index.available("Mumbai", day(0), day(3), 1)));
+    }
+
+    @Test
+    void loadLeavesHotelsWrittenSinceItBeganAlone() {
+        HotelAvailabilityIndex index = new HotelAvailabilityIndex();
+        index.beginLoad();
+        index.replaceCalendars(1L, Map.of("Deluxe", open(5)));
+        index.replaceCalendars(2L, Map.of());
+        index.remove(3L);
+
+        // Read before those writes committed
+        index.putLoaded(1L, Map.of("Deluxe", open(1)));
+        index.putLoaded(2L, Map.of("Suite", open(1)));
+        index.putLoaded(3L, Map.of("Suite", open(1)));
+        index.putLoaded(4L, Map.of("Suite", open(1)));
+        index.endLoad();
+
+        assertEquals(open(5).runs(), index.calendars(1L).get("Deluxe").runs());
+        assertEquals(Map.of(), index.calendars(2L));
+        assertEquals(Map.of(), index.calendars(3L));
+        assertEquals(open(1).runs(), index.calendars(4L).get("Suite").runs());
+    }
+
+    private static List<Long> ids(List<AvailableHotel> available) {
+        return available.stream().map(hotel -> hotel.hotel().getId()).toList();
+    }
+
+    private static RoomCalendar open(int rooms) {
+        return RoomCalendar.empty().with(day(0), day(31), rooms);
+    }
+
+    private static Hotel hotel(Long id, String name, String city, boolean preferred) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setHotelName(name);
+        hotel.setCity(city);
+        hotel.setPreferred(preferred);
+        return hotel;
+    }
+
+    private static LocalDate day(int offset) {
+        return DEC_1.plusDays(offset);
+    }
+}
@@ -0,0 +1,128 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotelDuplicateIndexTests {
+
+    @Test
+    void hotelsSharingAPhoneInAnotherFormatMatch() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(List.of(hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", "+91 98765-43210", null)));
+
+        List<DuplicateMatch> matches = index.findMatches(
+                hotel(2L, "Grand Residency", "Gurgaon", "MG Road", "098765 43210", null));
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).otherHotelId());
+        assertEquals(List.of("9876543210"), matches.get(0).sharedContacts());
+    }
+
+    @Test
+    void hotelsSharingAGmailAddressWithDotsAndATagMatch() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(List.of(hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", null, "tajpalace@gmail.com")));
+
+        List<DuplicateMatch> matches = index.findMatches(
+                hotel(2L, "Grand Residency", "Gurgaon", "MG Road", null, "Taj.Palace+front@GMail.com"));
+
+        assertEquals(List.of("tajpalace@gmail.com"), matches.get(0).sharedContacts());
+    }
+
+    @Test
+    void sameNameInTheSameCityIsFoundThroughTheNameBands() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(List.of(hotel(1L, "Hotel Taj Palace", "Delhi", "Sardar Patel Marg", "9876543210", null)));
+
+        // No shared contact, so the only candidate bucket is a name band; stop words and the city are ignored
+        List<DuplicateMatch> matches = index.findMatches(
+                hotel(2L, "The Taj Palace, Delhi", "Delhi", "Chanakyapuri", "9123456780", null));
+
+        assertEquals(1, matches.size());
+        assertEquals(1.0, matches.get(0).nameSimilarity());
+        assertEquals(List.of(), matches.get(0).sharedContacts());
+    }
+
+    @Test
+    void sameNameInAnotherCityAtAnotherAddressIsNotADuplicate() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(List.of(hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", "9876543210", null)));
+
+        assertEquals(List.of(), index.findMatches(
+                hotel(2L, "Taj Palace", "Mumbai", "Apollo Bunder", "9123456780", null)));
+    }
+
+    @Test
+    void matchesAreClusteredTransitively() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(List.of(
+                hotel(3L, "Lake View", "Udaipur", "Lake Pichola", null, "stay@lakeview.in"),
+                hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", "9876543210", null),
+                hotel(2L, "Grand Residency", "Gurgaon", "MG Road", "+91 98765 43210", "Stay@LakeView.in"),
+                hotel(4L, "Sea Breeze", "Goa", "Calangute Beach", "9000000004", null)));
+
+        DuplicateReport report = index.findDuplicates();
+
+        assertEquals(4, report.hotelsScanned());
+        assertEquals(1, report.clusters().size());
+        DuplicateCluster cluster = report.clusters().get(0);
+        assertEquals(List.of(1L, 2L, 3L), cluster.hotels().stream().map(Hotel::getId).toList());
+        assertEquals(2, cluster.matches().size());
+    }
+
+    @Test
+    void contactSharedByTooManyHotelsIsNotEvidence() {
+        // Unrelated names, so the hotels only meet in the bucket of the shared placeholder phone
+        Random random = new Random(42);
+        List<Hotel> hotels = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            hotels.add(hotel(id, word(random), null, word(random), "1800 000 000", null));
+        }
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        index.rebuild(hotels);
+
+        assertTrue(index.findDuplicates().clusters().isEmpty());
+        assertEquals(List.of(), index.findMatches(hotel(500L, "Sea Breeze", "Goa", "Calangute Beach", "1800000000", null)));
+    }
+
+    @Test
+    void updatedAndRemovedHotelsLeaveTheirBuckets() {
+        HotelDuplicateIndex index = new HotelDuplicateIndex();
+        Hotel candidate = hotel(9L, "Grand Residency", "Gurgaon", "MG Road", "9876543210", null);
+        index.rebuild(List.of(hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", "9876543210", null)));
+        assertEquals(1, index.findMatches(candidate).size());
+
+        index.put(hotel(1L, "Taj Palace", "Delhi", "Sardar Patel Marg", "9123456780", null));
+        assertEquals(List.of(), index.findMatches(candidate));
+
+        index.put(hotel(2L, "Sea Breeze", "Goa", "Calangute Beach", "9876543210", null));
+        index.remove(2L);
+        assertEquals(List.of(), index.findMatches(candidate));
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    private static Hotel hotel(Long id, String name, String city, String address, String phone, String email) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setHotelName(name);
+        hotel.setCity(city);
+        hotel.setAddress(address);
+        hotel.setMobilePhoneContact(phone);
+        hotel.setEmail1(email);
+        return hotel;
+    }
+}
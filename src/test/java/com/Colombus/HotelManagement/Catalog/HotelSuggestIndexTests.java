@@ -0,0 +1,117 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import com.Colombus.HotelManagement.Models.Hotel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HotelSuggestIndexTests {
+
+    @Test
+    void everyWordOfANameStartsAKey() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(hotel(1L, "Hotel Taj Palace", "Delhi", "Delhi", false)));
+
+        assertEquals(List.of("Hotel Taj Palace"), texts(index.suggest("pal", HotelSuggestIndex.HOTEL, 10)));
+        assertEquals(List.of("Hotel Taj Palace"), texts(index.suggest("TAJ  Pa", HotelSuggestIndex.HOTEL, 10)));
+    }
+
+    @Test
+    void exactPrefixRanksBeforeATypoEvenOfAPreferredHotel() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(
+                hotel(1L, "Tej Residency", "Pune", "Maharashtra", true),
+                hotel(2L, "Taj Palace", "Delhi", "Delhi", false)));
+
+        List<Suggestion> suggestions = index.suggest("taj", HotelSuggestIndex.HOTEL, 10);
+
+        assertEquals(List.of("Taj Palace", "Tej Residency"), texts(suggestions));
+        assertEquals(List.of(0, 1), suggestions.stream().map(Suggestion::edits).toList());
+    }
+
+    @Test
+    void preferredHotelRanksBeforeAMoreViewedOne() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(
+                hotel(1L, "Palm Grove", "Goa", "Goa", false),
+                hotel(2L, "Palm Court", "Goa", "Goa", true)));
+        view(index, 1L, 5);
+        index.applyViews();
+
+        assertEquals(List.of("Palm Court", "Palm Grove"), texts(index.suggest("palm", HotelSuggestIndex.HOTEL, 10)));
+    }
+
+    @Test
+    void viewsReRankOnlyOnceApplied() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(
+                hotel(1L, "Sea Breeze", "Goa", "Goa", false),
+                hotel(2L, "Sea View", "Goa", "Goa", false)));
+
+        view(index, 2L, 3);
+        assertEquals(List.of("Sea Breeze", "Sea View"), texts(index.suggest("sea", HotelSuggestIndex.HOTEL, 10)));
+
+        index.applyViews();
+        assertEquals(List.of("Sea View", "Sea Breeze"), texts(index.suggest("sea", HotelSuggestIndex.HOTEL, 10)));
+
+        // Applied views are not counted again: 4 views now outrank the earlier 3
+        view(index, 1L, 4);
+        index.applyViews();
+        assertEquals(List.of("Sea Breeze", "Sea View"), texts(index.suggest("sea", HotelSuggestIndex.HOTEL, 10)));
+    }
+
+    @Test
+    void popularityOutlivesARebuildAndAnUpdate() {
+        Hotel breeze = hotel(1L, "Sea Breeze", "Goa", "Goa", false);
+        Hotel seaView = hotel(2L, "Sea View", "Goa", "Goa", false);
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(breeze, seaView));
+        view(index, 2L, 3);
+        index.applyViews();
+
+        index.rebuild(List.of(breeze, seaView));
+        index.put(hotel(2L, "Sea View Resort", "Goa", "Goa", false));
+
+        assertEquals(List.of("Sea View Resort", "Sea Breeze"), texts(index.suggest("sea", HotelSuggestIndex.HOTEL, 10)));
+    }
+
+    @Test
+    void citiesRankByTheirNumberOfHotelsAndDisappearWithTheLast() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.rebuild(List.of(
+                hotel(1L, "Sea Breeze", "Mysore", "Karnataka", false),
+                hotel(2L, "Taj Palace", "Mumbai", "Maharashtra", false),
+                hotel(3L, "Lake View", "Mumbai", "Maharashtra", false)));
+
+        assertEquals(List.of("Mumbai", "Mysore"), texts(index.suggest("m", HotelSuggestIndex.CITY, 10)));
+
+        index.remove(2L);
+        index.put(hotel(4L, "Hill Top", "Mysore", "Karnataka", false));
+        assertEquals(List.of("Mysore", "Mumbai"), texts(index.suggest("m", HotelSuggestIndex.CITY, 10)));
+
+        index.remove(3L);
+        assertEquals(List.of("Mysore"), texts(index.suggest("m", HotelSuggestIndex.CITY, 10)));
+    }
+
+    private static void view(HotelSuggestIndex index, Long hotelId, int times) {
+        for (int i = 0; i < times; i++) {
+            index.recordView(hotelId);
+        }
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    private static Hotel hotel(Long id, String name, String city, String state, boolean preferred) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setHotelName(name);
+        hotel.setCity(city);
+        hotel.setState(state);
+        hotel.setPreferred(preferred);
+        return hotel;
+    }
+}
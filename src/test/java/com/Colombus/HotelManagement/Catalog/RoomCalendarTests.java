@@ -0,0 +1,91 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomCalendarTests {
+    private static final LocalDate DEC_1 = LocalDate.of(2025, 12, 1);
+
+    @Test
+    void rangeSplitsTheRunItFallsInto() {
+        RoomCalendar calendar = RoomCalendar.empty()
+                .with(day(0), day(31), 5)
+                .with(day(20), day(27), 2);
+
+        assertEquals(List.of(
+                new AvailabilityRun(day(0), day(20), 5),
+                new AvailabilityRun(day(20), day(27), 2),
+                new AvailabilityRun(day(27), day(31), 5)), calendar.runs());
+    }
+
+    @Test
+    void adjacentRunsWithTheSameCountAreJoined() {
+        RoomCalendar calendar = RoomCalendar.empty()
+                .with(day(10), day(20), 3)
+                .with(day(0), day(10), 3)
+                .with(day(20), day(25), 3);
+
+        assertEquals(List.of(new AvailabilityRun(day(0), day(25), 3)), calendar.runs());
+    }
+
+    @Test
+    void zeroRoomsLeavesAGap() {
+        RoomCalendar calendar = RoomCalendar.empty()
+                .with(day(0), day(30), 4)
+                .with(day(10), day(12), 0);
+
+        assertEquals(List.of(
+                new AvailabilityRun(day(0), day(10), 4),
+                new AvailabilityRun(day(12), day(30), 4)), calendar.runs());
+        assertTrue(calendar.with(day(0), day(30), 0).isEmpty());
+    }
+
+    @Test
+    void minRoomsIsTheFewestOverTheStay() {
+        RoomCalendar calendar = RoomCalendar.empty()
+                .with(day(0), day(10), 6)
+                .with(day(10), day(12), 1)
+                .with(day(12), day(20), 4)
+                .with(day(25), day(30), 8);
+
+        assertEquals(6, calendar.minRooms(day(2), day(10)));
+        assertEquals(1, calendar.minRooms(day(5), day(15)));
+        assertEquals(4, calendar.minRooms(day(12), day(20)));
+        assertEquals(0, calendar.minRooms(day(18), day(26))); // Nights 20 to 24 have no run
+        assertEquals(0, calendar.minRooms(day(28), day(31)));
+        assertEquals(0, calendar.minRooms(day(-3), day(2)));
+    }
+
+    @Test
+    void runsAreCutToTheRequestedNights() {
+        RoomCalendar calendar = RoomCalendar.empty()
+                .with(day(0), day(10), 2)
+                .with(day(10), day(20), 3);
+
+        assertEquals(List.of(
+                new AvailabilityRun(day(5), day(10), 2),
+                new AvailabilityRun(day(10), day(12), 3)), calendar.runs(day(5), day(12)));
+    }
+
+    @Test
+    void storedRunsLoadInAnyOrderButMustNotOverlap() {
+        RoomCalendar calendar = RoomCalendar.of(List.of(
+                new AvailabilityRun(day(10), day(20), 2),
+                new AvailabilityRun(day(0), day(10), 2)));
+        assertEquals(List.of(new AvailabilityRun(day(0), day(20), 2)), calendar.runs());
+
+        assertThrows(IllegalArgumentException.class, () -> RoomCalendar.of(List.of(
+                new AvailabilityRun(day(0), day(10), 2),
+                new AvailabilityRun(day(5), day(15), 3))));
+    }
+
+    private static LocalDate day(int offset) {
+        return DEC_1.plusDays(offset);
+    }
+}
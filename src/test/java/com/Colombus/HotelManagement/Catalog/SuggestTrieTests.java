@@ -0,0 +1,97 @@
+package com.Colombus.HotelManagement.Catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestTrieTests {
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong((Entry entry) -> -entry.popularity)
+            .thenComparing(entry -> entry.name);
+
+    @Test
+    void entryIsFoundThroughEachOfItsKeys() {
+        SuggestTrie<Entry> trie = new SuggestTrie<>(BY_POPULARITY, 5);
+        Entry taj = new Entry("taj palace", 1);
+        trie.add(taj, List.of("taj palace", "palace"));
+
+        assertEquals(Map.of(taj, 0), search(trie, "taj", 0));
+        assertEquals(Map.of(taj, 0), search(trie, "pal", 0));
+        assertTrue(search(trie, "lace", 0).isEmpty());
+    }
+
+    @Test
+    void removedEntryIsNoLongerFound() {
+        SuggestTrie<Entry> trie = new SuggestTrie<>(BY_POPULARITY, 5);
+        Entry oberoi = new Entry("oberoi", 1);
+        Entry orchid = new Entry("orchid", 2);
+        trie.add(oberoi, List.of("oberoi"));
+        trie.add(orchid, List.of("orchid"));
+
+        trie.remove(oberoi, List.of("oberoi"));
+
+        assertTrue(search(trie, "obe", 0).isEmpty());
+        assertEquals(Map.of(orchid, 0), search(trie, "o", 0));
+    }
+
+    @Test
+    void nodesKeepTheBestEntriesAsPopularityChanges() {
+        SuggestTrie<Entry> trie = new SuggestTrie<>(BY_POPULARITY, 2);
+        Entry holiday = new Entry("holiday inn", 3);
+        Entry hotel = new Entry("hotel sea view", 2);
+        Entry homestay = new Entry("homestay", 1);
+        trie.add(holiday, List.of("holiday inn"));
+        trie.add(hotel, List.of("hotel sea view"));
+        trie.add(homestay, List.of("homestay"));
+        assertEquals(Map.of(holiday, 0, hotel, 0), search(trie, "ho", 0));
+
+        // Removing a top entry recomputes the nodes on its path from their children
+        trie.remove(holiday, List.of("holiday inn"));
+        assertEquals(Map.of(hotel, 0, homestay, 0), search(trie, "ho", 0));
+
+        // A re-ranked entry is removed and added again
+        trie.remove(homestay, List.of("homestay"));
+        homestay.popularity = 10;
+        trie.add(homestay, List.of("homestay"));
+        trie.add(holiday, List.of("holiday inn"));
+        assertEquals(Map.of(homestay, 0, holiday, 0), search(trie, "ho", 0));
+    }
+
+    @Test
+    void searchToleratesAtMostTheGivenEdits() {
+        SuggestTrie<Entry> trie = new SuggestTrie<>(BY_POPULARITY, 5);
+        Entry mumbai = new Entry("mumbai", 1);
+        trie.add(mumbai, List.of("mumbai"));
+
+        assertEquals(Map.of(mumbai, 1), search(trie, "mumbia", 1)); // Adjacent transposition
+        assertEquals(Map.of(mumbai, 1), search(trie, "mombai", 1));
+        assertTrue(search(trie, "mxmbxi", 1).isEmpty());
+        assertEquals(Map.of(mumbai, 2), search(trie, "mxmbxi", 2));
+    }
+
+    private static Map<Entry, Integer> search(SuggestTrie<Entry> trie, String query, int maxEdits) {
+        Map<Entry, Integer> distances = new IdentityHashMap<>();
+        trie.search(query, maxEdits, distances);
+        return Map.copyOf(distances);
+    }
+
+    private static final class Entry {
+        final String name;
+        long popularity;
+
+        Entry(String name, long popularity) {
+            this.name = name;
+            this.popularity = popularity;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.Colombus.HotelManagement.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Two embedded H2 databases stand in for the MySQL primary and its replica
+class ReadWriteRoutingDataSourceTests {
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+
+    @BeforeEach
+    void createNodes() {
+        markNode(primary, "primary");
+        markNode(replica, "replica");
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replicaReadsUseReplica() {
+        Routing routing = new Routing(Duration.ofSeconds(2));
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void otherReadOnlyTransactionsUsePrimary() {
+        Routing routing = new Routing(Duration.ofSeconds(2));
+        assertEquals("primary", routing.readOnly.execute(status -> routing.jdbc.queryForObject("select name from node", String.class)));
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        Routing routing = new Routing(Duration.ofSeconds(2));
+        assertEquals("primary", routing.write());
+    }
+
+    @Test
+    void readsStickToPrimaryAfterOwnWrite() {
+        Routing routing = new Routing(Duration.ofSeconds(30));
+        authenticate("alice");
+        routing.write();
+        assertEquals("primary", routing.read());
+
+        authenticate("bob");
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void anonymousWritesMakeNobodySticky() {
+        Routing routing = new Routing(Duration.ofSeconds(30));
+        routing.write();
+        assertEquals("replica", routing.read());
+
+        authenticate("alice");
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void stickinessExpiresAfterWindow() throws InterruptedException {
+        Routing routing = new Routing(Duration.ofMillis(50));
+        authenticate("alice");
+        routing.write();
+        Thread.sleep(100);
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void rolledBackWriteIsNotSticky() {
+        Routing routing = new Routing(Duration.ofSeconds(30));
+        authenticate("alice");
+        routing.readWrite.executeWithoutResult(status -> {
+            routing.jdbc.update("update node set name = name");
+            status.setRollbackOnly();
+        });
+        assertEquals("replica", routing.read());
+    }
+
+    private static void markNode(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+    }
+
+    private static void authenticate(String userName) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userName, null, List.of()));
+    }
+
+    private class Routing {
+        final JdbcTemplate jdbc;
+        final TransactionTemplate readOnly;
+        final TransactionTemplate readWrite;
+
+        Routing(Duration stickyWindow) {
+            DataSource routed = new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(primary, replica, stickyWindow));
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+            jdbc = new JdbcTemplate(routed);
+            readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> {
+                ReadWriteRoutingDataSource.allowReplicaForCurrentTransaction();
+                return jdbc.queryForObject("select name from node", String.class);
+            });
+        }
+
+        String write() {
+            return readWrite.execute(status -> {
+                jdbc.update("update node set name = name");
+                return jdbc.queryForObject("select name from node", String.class);
+            });
+        }
+    }
+}
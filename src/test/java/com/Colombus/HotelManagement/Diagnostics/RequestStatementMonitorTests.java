@@ -0,0 +1,66 @@
+package com.Colombus.HotelManagement.Diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestStatementMonitorTests {
+
+    @Test
+    void countsStatementsPerRequest() {
+        RequestStatementMonitor monitor = new RequestStatementMonitor(5, 3, false, List.of());
+        monitor.begin("/hotels/1");
+        monitor.inspect("select * from hotels where id=?");
+        monitor.inspect("select * from users where user_name=?");
+        monitor.end("GET", "/hotels/{id}");
+
+        Map<String, Object> snapshot = monitor.snapshot();
+        assertEquals(1L, snapshot.get("requests"));
+        assertEquals(2L, snapshot.get("statements"));
+        assertEquals(0L, snapshot.get("requestsOverBudget"));
+    }
+
+    @Test
+    void repeatedShapeIsReportedAsOffender() {
+        RequestStatementMonitor monitor = new RequestStatementMonitor(100, 3, false, List.of());
+        monitor.begin("/hotels/all");
+        monitor.inspect("select * from hotels");
+        for (int i = 0; i < 4; i++) {
+            monitor.inspect("select * from hotels where id in (" + "?,".repeat(i) + "?)");
+        }
+        monitor.end("GET", "/hotels/all");
+
+        List<?> offenders = (List<?>) monitor.snapshot().get("recentOffenders");
+        RequestStatementMonitor.Offender offender = (RequestStatementMonitor.Offender) offenders.get(0);
+        assertEquals(4, offender.repeats());
+        assertEquals("select * from hotels where id in (?, ...)", offender.repeatedStatement());
+        assertEquals(1L, monitor.snapshot().get("requestsWithRepeatedStatements"));
+    }
+
+    @Test
+    void strictModeFailsOnceOverBudget() {
+        RequestStatementMonitor monitor = new RequestStatementMonitor(2, 10, true, List.of());
+        monitor.begin("/hotels/search");
+        monitor.inspect("select 1");
+        monitor.inspect("select 2");
+        assertThrows(StatementBudgetExceededException.class, () -> monitor.inspect("select 3"));
+        monitor.end("GET", "/hotels/search");
+        assertEquals(1L, monitor.snapshot().get("requestsOverBudget"));
+    }
+
+    @Test
+    void exemptPathsAndWorkOutsideRequestsAreNotCounted() {
+        RequestStatementMonitor monitor = new RequestStatementMonitor(1, 10, true, List.of("/hotels/upload-csv"));
+        monitor.inspect("select 1");
+        monitor.inspect("select 2");
+        monitor.begin("/hotels/upload-csv");
+        monitor.inspect("insert into hotels values (?)");
+        monitor.inspect("insert into hotels values (?)");
+        monitor.end("POST", "/hotels/upload-csv");
+        assertEquals(0L, monitor.snapshot().get("requests"));
+    }
+}
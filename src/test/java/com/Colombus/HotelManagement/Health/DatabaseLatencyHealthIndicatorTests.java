@@ -0,0 +1,145 @@
+package com.Colombus.HotelManagement.Health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DatabaseLatencyHealthIndicatorTests {
+
+    @Test
+    void fastProbeIsUpAndReusedWithinTheProbeInterval() {
+        Pool primary = new Pool("primary");
+        DatabaseLatencyHealthIndicator indicator = indicator(Duration.ofSeconds(1), Duration.ofMinutes(1), primary);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(1, primary.borrowed);
+    }
+
+    @Test
+    void slowFirstProbeKeepsTheInstanceOutOfService() {
+        DatabaseLatencyHealthIndicator indicator = indicator(Duration.ZERO, Duration.ofMinutes(1), new Pool("primary"));
+
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(true, health.getDetails().get("slow"));
+    }
+
+    @Test
+    void saturatedPoolIsNotProbedAndKeepsReadiness() {
+        Pool primary = new Pool("primary");
+        DatabaseLatencyHealthIndicator indicator = indicator(Duration.ofSeconds(1), Duration.ZERO, primary);
+        indicator.health();
+
+        primary.active = primary.getMaximumPoolSize();
+        primary.idle = 0;
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(true, health.getDetails().get("poolSaturated"));
+        assertEquals(true, pool(health, "primary").get("saturated"));
+        assertEquals(1, primary.borrowed);
+    }
+
+    @Test
+    void poolSaturatedBeforeItsFirstProbeIsPending() {
+        Pool primary = new Pool("primary");
+        primary.active = primary.getMaximumPoolSize();
+        primary.idle = 0;
+        DatabaseLatencyHealthIndicator indicator = indicator(Duration.ofSeconds(1), Duration.ZERO, primary);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals("pending", health.getDetails().get("probe"));
+        assertEquals(0, primary.borrowed);
+    }
+
+    @Test
+    void unreachableDatabaseIsDownEvenAfterPassing() {
+        Pool primary = new Pool("primary");
+        Pool replica = new Pool("replica");
+        DatabaseLatencyHealthIndicator indicator = indicator(Duration.ofSeconds(1), Duration.ZERO, primary, replica);
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        replica.failure = new SQLException("Connection refused");
+        Health health = indicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("replica: Connection refused", health.getDetails().get("error"));
+        assertEquals("Connection refused", pool(health, "replica").get("error"));
+    }
+
+    private static DatabaseLatencyHealthIndicator indicator(Duration latencyThreshold, Duration probeInterval, Pool... pools) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<HikariDataSource> provider = (ObjectProvider<HikariDataSource>) Proxy.newProxyInstance(
+                ObjectProvider.class.getClassLoader(), new Class<?>[] {ObjectProvider.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "orderedStream" -> Stream.of(pools);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new DatabaseLatencyHealthIndicator(provider, latencyThreshold, probeInterval);
+    }
+
+    private static Map<?, ?> pool(Health health, String name) {
+        return (Map<?, ?>) ((Map<?, ?>) health.getDetails().get("pools")).get(name);
+    }
+
+    // A pool that is never started: its counters are set by the test and its connections only run SELECT 1
+    private static final class Pool extends HikariDataSource {
+        int active = 1;
+        int idle = 9;
+        int borrowed;
+        SQLException failure;
+
+        Pool(String name) {
+            setPoolName(name);
+            setMaximumPoolSize(10);
+        }
+
+        @Override
+        public HikariPoolMXBean getHikariPoolMXBean() {
+            return (HikariPoolMXBean) Proxy.newProxyInstance(HikariPoolMXBean.class.getClassLoader(),
+                    new Class<?>[] {HikariPoolMXBean.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "getActiveConnections" -> active;
+                        case "getIdleConnections" -> idle;
+                        case "getThreadsAwaitingConnection" -> 0;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            borrowed++;
+            if (failure != null) {
+                throw failure;
+            }
+            Statement statement = (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class<?>[] {Statement.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "execute" -> true;
+                        case "setQueryTimeout", "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "createStatement" -> statement;
+                        case "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.Colombus.HotelManagement.Services;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AvailabilityCsvParserTests {
+
+    @Test
+    void invalidLinesBecomeErrorsAndTheOthersRows() throws IOException {
+        AvailabilityCsvParser.Result result = parse("""
+                hotelId,roomType,from,to,rooms
+                1, Deluxe ,2025-12-20,2025-12-27,4
+                1,Suite,2025-12-20
+                x1,Suite,2025-12-20,2025-12-27,1
+
+                2,Suite,2025-12-20,2025-12-27,many
+                2,Suite,20/12/2025,2025-12-27,1
+                2,Suite,2025-12-27,2025-12-20,1
+                2,,2025-12-20,2025-12-27,1
+                2,Suite,2025-12-20,2025-12-27,-1
+                3,Suite,2025-12-20,2025-12-21,0
+                """);
+
+        assertEquals(List.of(
+                new AvailabilityCsvParser.Row(1, new AvailabilityRange("Deluxe",
+                        LocalDate.of(2025, 12, 20), LocalDate.of(2025, 12, 27), 4)),
+                new AvailabilityCsvParser.Row(3, new AvailabilityRange("Suite",
+                        LocalDate.of(2025, 12, 20), LocalDate.of(2025, 12, 21), 0))), result.rows());
+        assertEquals(List.of(
+                "Line 3 has insufficient fields: 3 (needs 5)",
+                "Line 4 has an invalid number: For input string: \"x1\"",
+                "Line 6 has an invalid number: For input string: \"many\"",
+                "Line 7 has an invalid date (expected yyyy-MM-dd): 20/12/2025",
+                "Line 8: from must be before to",
+                "Line 9: roomType is required",
+                "Line 10: rooms must be between 0 and " + AvailabilityRange.MAX_ROOMS), result.errors());
+        assertEquals(11, result.lines());
+    }
+
+    @Test
+    void headerOnlyFileHasNoRows() throws IOException {
+        AvailabilityCsvParser.Result result = parse("hotelId,roomType,from,to,rooms\n");
+
+        assertEquals(List.of(), result.rows());
+        assertEquals(List.of(), result.errors());
+        assertEquals(1, result.lines());
+    }
+
+    private static AvailabilityCsvParser.Result parse(String csv) throws IOException {
+        return AvailabilityCsvParser.parse(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Catalog.AvailabilityRun;
+import com.Colombus.HotelManagement.Catalog.HotelAvailabilityIndex;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Models.RoomAvailability;
+import com.Colombus.HotelManagement.Repositories.ChangeLogRepository;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Repositories.RoomAvailabilityRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvailabilityServiceTests {
+    private static final LocalDate DEC_1 = LocalDate.of(2025, 12, 1);
+
+    @Test
+    void writeReplacesOnlyTheRoomTypesItSets() {
+        List<RoomAvailability> stored = List.of(row(1L, "Deluxe", 0, 10, 5), row(1L, "Suite", 0, 10, 2));
+        List<Set<?>> deleted = new ArrayList<>();
+        List<RoomAvailability> saved = new ArrayList<>();
+        List<Object> published = new ArrayList<>();
+        AvailabilityService service = new AvailabilityService(roomAvailability(stored, deleted, saved), hotels(),
+                new HotelAvailabilityIndex(), changeLog(), published::add, null);
+
+        Map<String, List<AvailabilityRun>> runs = service.setAvailability(1L,
+                List.of(new AvailabilityRange("Deluxe", day(4), day(6), 1)));
+
+        List<AvailabilityRun> deluxe = List.of(
+                new AvailabilityRun(day(0), day(4), 5),
+                new AvailabilityRun(day(4), day(6), 1),
+                new AvailabilityRun(day(6), day(10), 5));
+        assertEquals(Map.of("Deluxe", deluxe, "Suite", List.of(new AvailabilityRun(day(0), day(10), 2))), runs);
+        // The Suite rows are neither deleted nor written again
+        assertEquals(List.of(Set.of("Deluxe")), deleted);
+        assertEquals(deluxe, saved.stream()
+                .map(row -> new AvailabilityRun(row.getStartDate(), row.getEndDate(), row.getRooms())).toList());
+        assertEquals(Set.of("Deluxe"), Set.copyOf(saved.stream().map(RoomAvailability::getRoomType).toList()));
+
+        AvailabilityService.CalendarsChanged changed = (AvailabilityService.CalendarsChanged) published.get(0);
+        assertEquals(Set.of("Deluxe", "Suite"), changed.calendars().keySet());
+    }
+
+    @Test
+    void loadSkipsAHotelWhoseStoredRunsOverlap() {
+        List<RoomAvailability> stored = List.of(row(1L, "Deluxe", 0, 10, 5), row(2L, "Suite", 0, 10, 2),
+                row(2L, "Suite", 5, 15, 1), row(3L, "Suite", 0, 3, 1));
+        HotelAvailabilityIndex index = new HotelAvailabilityIndex();
+        AvailabilityService service = new AvailabilityService(roomAvailability(stored, new ArrayList<>(),
+                new ArrayList<>()), hotels(), index, changeLog(), event -> { }, null);
+
+        service.load();
+
+        assertEquals(List.of(new AvailabilityRun(day(0), day(10), 5)), index.calendars(1L).get("Deluxe").runs());
+        assertEquals(Map.of(), index.calendars(2L));
+        assertEquals(List.of(new AvailabilityRun(day(0), day(3), 1)), index.calendars(3L).get("Suite").runs());
+        assertTrue(service.isLoaded());
+    }
+
+    private static RoomAvailabilityRepository roomAvailability(List<RoomAvailability> stored,
+                                                               List<Set<?>> deleted,
+                                                               List<RoomAvailability> saved) {
+        return (RoomAvailabilityRepository) Proxy.newProxyInstance(RoomAvailabilityRepository.class.getClassLoader(),
+                new Class<?>[] {RoomAvailabilityRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByHotelId" -> stored.stream().filter(row -> row.getHotelId().equals(args[0])).toList();
+                    case "findByHotelIdIn" -> stored.stream()
+                            .filter(row -> ((Collection<?>) args[0]).contains(row.getHotelId())).toList();
+                    case "findHotelIdsAfter" -> stored.stream().map(RoomAvailability::getHotelId)
+                            .filter(id -> id > (long) args[0]).distinct().sorted().toList();
+                    case "deleteByHotelIdAndRoomTypes" -> {
+                        deleted.add(Set.copyOf((Collection<?>) args[1]));
+                        yield 0;
+                    }
+                    case "saveAll" -> {
+                        ((Iterable<?>) args[0]).forEach(row -> saved.add((RoomAvailability) row));
+                        yield args[0];
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static HotelRepository hotels() {
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+        return (HotelRepository) Proxy.newProxyInstance(HotelRepository.class.getClassLoader(),
+                new Class<?>[] {HotelRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByIdForUpdate" -> Optional.of(hotel);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static ChangeLogService changeLog() {
+        ChangeLogRepository repository = (ChangeLogRepository) Proxy.newProxyInstance(
+                ChangeLogRepository.class.getClassLoader(), new Class<?>[] {ChangeLogRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> (ChangeLogEntry) args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new ChangeLogService(repository, null, "node-a");
+    }
+
+    private static RoomAvailability row(Long hotelId, String roomType, int from, int to, int rooms) {
+        RoomAvailability row = new RoomAvailability();
+        row.setHotelId(hotelId);
+        row.setRoomType(roomType);
+        row.setStartDate(day(from));
+        row.setEndDate(day(to));
+        row.setRooms(rooms);
+        return row;
+    }
+
+    private static LocalDate day(int offset) {
+        return DEC_1.plusDays(offset);
+    }
+}
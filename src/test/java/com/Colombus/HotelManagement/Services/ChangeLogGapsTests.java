@@ -0,0 +1,58 @@
+package com.Colombus.HotelManagement.Services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChangeLogGapsTests {
+
+    @Test
+    void lowerVersionCommittingAfterAHigherOneHoldsTheMarkUntilItArrives() {
+        ChangeLogGaps commits = new ChangeLogGaps(10);
+        commits.seen(11);
+        commits.seen(13); // 12 is still in an open transaction
+        commits.seen(14);
+
+        assertEquals(11, commits.committedUpTo());
+        assertEquals(List.of(12L), commits.gaps());
+
+        // However long 12 takes, only its commit moves the mark past it
+        commits.seen(15);
+        assertEquals(11, commits.committedUpTo());
+
+        commits.seen(12);
+        assertEquals(15, commits.committedUpTo());
+        assertEquals(List.of(), commits.gaps());
+    }
+
+    @Test
+    void rolledBackVersionReleasesTheMarkOnceResolved() {
+        ChangeLogGaps commits = new ChangeLogGaps(0);
+        commits.seen(4);
+
+        assertEquals(List.of(1L, 2L, 3L), commits.gaps());
+        assertEquals(0, commits.committedUpTo());
+
+        commits.resolved(1);
+        commits.seen(3);
+        assertEquals(1, commits.committedUpTo());
+
+        commits.resolved(2);
+        assertEquals(4, commits.committedUpTo());
+    }
+
+    @Test
+    void versionsSeenAgainChangeNothing() {
+        ChangeLogGaps commits = new ChangeLogGaps(0);
+        commits.seen(1);
+        commits.seen(3);
+        commits.seen(1);
+        commits.seen(3);
+
+        assertEquals(List.of(2L), commits.gaps());
+        assertEquals(3, commits.seenUpTo());
+        assertEquals(1, commits.committedUpTo());
+    }
+}
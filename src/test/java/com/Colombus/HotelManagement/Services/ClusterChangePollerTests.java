@@ -0,0 +1,115 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Catalog.HotelCatalog;
+import com.Colombus.HotelManagement.HotelManagementApplication;
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Models.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Two application instances on one shared H2 database: writes on one must reach the caches of the other
+class ClusterChangePollerTests {
+    private static final Duration CONVERGENCE_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void writesOnOneInstanceReachTheCachesOfTheOther() {
+        try (ConfigurableApplicationContext nodeA = start("node-a");
+             ConfigurableApplicationContext nodeB = start("node-b")) {
+            HotelService hotelsA = nodeA.getBean(HotelService.class);
+            HotelService hotelsB = nodeB.getBean(HotelService.class);
+            HotelCatalog catalogB = nodeB.getBean(HotelCatalog.class);
+
+            Long id = hotelsA.addHotel(hotel("Old Harbour Inn")).getId();
+            await("hotel created on A in B's catalog", () -> catalogB.get(id).isPresent());
+
+            // Puts the hotel into B's second-level cache, which a change on A must evict
+            assertEquals("Old Harbour Inn", hotelsB.getHotelById(id).orElseThrow().getHotelName());
+            hotelsA.patchHotel(id, Map.of("hotelName", "New Harbour Inn"), null);
+            await("renamed hotel read through B's second-level cache",
+                    () -> hotelsB.getHotelById(id).map(Hotel::getHotelName).filter("New Harbour Inn"::equals).isPresent());
+            await("renamed hotel in B's catalog",
+                    () -> catalogB.get(id).map(Hotel::getHotelName).filter("New Harbour Inn"::equals).isPresent());
+            await("renamed hotel in B's search results",
+                    () -> hotelsB.searchHotelsByName("harbour").stream().anyMatch(h -> "New Harbour Inn".equals(h.getHotelName())));
+
+            hotelsA.deleteHotel(id);
+            await("deleted hotel gone from B", () -> catalogB.get(id).isEmpty() && hotelsB.getHotelById(id).isEmpty());
+
+            UserService usersA = nodeA.getBean(UserService.class);
+            UserService usersB = nodeB.getBean(UserService.class);
+            usersA.registerUser(user("cluster-admin", "0000000001")); // The first user becomes the admin
+            assertFalse(usersB.isUserNameTaken("cluster-agent"));
+            Long agentId = usersA.registerUser(user("cluster-agent", "0000000002")).getId();
+            await("user registered on A taken on B", () -> usersB.isUserNameTaken("cluster-agent"));
+
+            // Puts the unapproved user into B's second-level and natural-id caches
+            assertFalse(usersB.getUserByUserName("cluster-agent").orElseThrow().isApproved());
+            usersA.approveUser(agentId);
+            await("approval on A visible on B",
+                    () -> usersB.getUserByUserName("cluster-agent").map(User::isApproved).orElse(false));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return new SpringApplicationBuilder(HotelManagementApplication.class)
+                .profiles("h2")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:cluster-test;DB_CLOSE_DELAY=-1",
+                        "server.port=0",
+                        "app.cluster.node-id=" + nodeId,
+                        "app.cluster.poll-interval=100ms",
+                        "app.catalog.snapshot-file=")
+                .run();
+    }
+
+    private static void await(String condition, BooleanSupplier check) {
+        long deadline = System.nanoTime() + CONVERGENCE_TIMEOUT.toNanos();
+        while (!check.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Not converged within " + CONVERGENCE_TIMEOUT + ": " + condition);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting for: " + condition);
+            }
+        }
+    }
+
+    private static Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setHotelName(name);
+        hotel.setEmail1("stay@harbour.example.com");
+        hotel.setAddress("1 Marine Drive");
+        hotel.setMobilePhoneContact("9820000001");
+        hotel.setConcerningPersonName("Front Desk");
+        hotel.setCity("Mumbai");
+        hotel.setState("Maharashtra");
+        return hotel;
+    }
+
+    private static User user(String userName, String phone) {
+        User user = User.named(userName);
+        user.setCompanyName("Cluster Travel");
+        user.setAddress("2 Station Road");
+        user.setContactNumber(phone);
+        user.setMobileNumber(phone);
+        user.setEmail(userName + "@example.com");
+        user.setPassword("cluster-password");
+        user.setConcerningPersonName("Agent");
+        user.setCity("Pune");
+        user.setState("Maharashtra");
+        return user;
+    }
+}
@@ -0,0 +1,64 @@
+package com.Colombus.HotelManagement.Services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountingBloomFilterTests {
+
+    @Test
+    void everyAddedValueIsFound() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("user" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+    }
+
+    @Test
+    void removedValueIsForgottenAndOthersAreKept() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        filter.add("alice");
+        filter.add("bob");
+
+        filter.remove("alice");
+
+        assertFalse(filter.mightContain("alice"));
+        assertTrue(filter.mightContain("bob"));
+    }
+
+    @Test
+    void falsePositivesStayNearTheTargetRateAtCapacity() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("free" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, falsePositives + " false positives");
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void saturatedCountersAreNeverDecremented() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        for (int i = 0; i < 255; i++) {
+            filter.add("alice");
+        }
+
+        for (int i = 0; i < 300; i++) {
+            filter.remove("alice");
+        }
+
+        assertTrue(filter.mightContain("alice"));
+    }
+}
@@ -0,0 +1,218 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Catalog.HotelSuggestIndex;
+import com.Colombus.HotelManagement.Models.ChangeLogEntry;
+import com.Colombus.HotelManagement.Models.Hotel;
+import com.Colombus.HotelManagement.Repositories.ChangeLogRepository;
+import com.Colombus.HotelManagement.Repositories.HotelRepository;
+import com.Colombus.HotelManagement.Streaming.ChangeEvent;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HotelServiceTests {
+
+    @Test
+    void patchWithIfMatchIsOneConditionalUpdate() {
+        Map<Long, Hotel> stored = stored(hotel(7L, "Old Name", 3L));
+        List<String> calls = new ArrayList<>();
+        List<Object> published = new ArrayList<>();
+        HotelService service = service(hotels(stored, calls), published);
+
+        long version = service.patchHotel(7L, fields("hotelName", "Taj Palace", "preferred", true), 3L);
+
+        assertEquals(4L, version);
+        assertEquals(List.of("patchHotel"), calls);
+        ChangeEvent event = (ChangeEvent) published.get(0);
+        assertEquals(ChangeEvent.UPDATED, event.type());
+        Map<?, ?> change = (Map<?, ?>) event.data();
+        assertEquals("Taj Palace", change.get("hotelName"));
+        assertEquals(true, change.get("preferred"));
+        assertEquals(7L, change.get("id"));
+        assertEquals(4L, change.get("version"));
+    }
+
+    @Test
+    void patchWithoutIfMatchUpdatesTheLoadedHotel() {
+        Hotel hotel = hotel(7L, "Old Name", 3L);
+        hotel.setEmail2("old@example.com");
+        List<String> calls = new ArrayList<>();
+        HotelService service = service(hotels(stored(hotel), calls), new ArrayList<>());
+
+        long version = service.patchHotel(7L, fields("hotelName", "Taj Palace", "email2", " "), null);
+
+        assertEquals(4L, version);
+        assertEquals(List.of("findById", "saveAndFlush"), calls);
+        assertEquals("Taj Palace", hotel.getHotelName());
+        assertNull(hotel.getEmail2()); // A blank optional field is cleared
+    }
+
+    @Test
+    void patchWithStaleIfMatchIsAConflict() {
+        List<String> calls = new ArrayList<>();
+        List<Object> published = new ArrayList<>();
+        HotelService service = service(hotels(stored(hotel(7L, "Old Name", 3L)), calls), published);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.patchHotel(7L, fields("hotelName", "Taj Palace"), 2L));
+        assertEquals(List.of("patchHotel", "existsById"), calls);
+        assertEquals(List.of(), published);
+    }
+
+    @Test
+    void patchWithIfMatchOfAMissingHotelIsNotFound() {
+        HotelService service = service(hotels(stored(), new ArrayList<>()), new ArrayList<>());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> service.patchHotel(7L, fields("hotelName", "Taj Palace"), 3L));
+    }
+
+    @Test
+    void patchOfAFieldThatIsNotPatchableIsRejectedBeforeAnyWrite() {
+        for (String field : List.of("id", "version", "changeVersion", "latitude")) {
+            List<String> calls = new ArrayList<>();
+            List<Object> published = new ArrayList<>();
+            HotelService service = service(hotels(stored(hotel(7L, "Old Name", 3L)), calls), published);
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> service.patchHotel(7L, fields("hotelName", "Taj Palace", field, 1L), 3L));
+            assertEquals("Field cannot be updated: " + field, e.getMessage());
+            assertEquals(List.of(), calls);
+            assertEquals(List.of(), published);
+        }
+    }
+
+    @Test
+    void patchCannotClearARequiredField() {
+        HotelService service = service(hotels(stored(hotel(7L, "Old Name", 3L)), new ArrayList<>()), new ArrayList<>());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.patchHotel(7L, fields("hotelName", ""), 3L));
+        assertEquals("hotelName is required", e.getMessage());
+    }
+
+    @Test
+    void batchLookupKeepsTheRequestOrderWithNotFoundEntries() {
+        List<String> calls = new ArrayList<>();
+        HotelService service = service(hotels(stored(hotel(1L, "Taj Palace", 0L), hotel(2L, "Lake View", 0L)), calls),
+                new ArrayList<>());
+
+        List<HotelLookup> lookups = service.getHotelsByIds(List.of(2L, 9L, 1L, 2L));
+
+        assertEquals(List.of(2L, 9L, 1L, 2L), lookups.stream().map(HotelLookup::id).toList());
+        assertEquals(List.of(true, false, true, true), lookups.stream().map(HotelLookup::found).toList());
+        assertNull(lookups.get(1).hotel());
+        assertEquals("Lake View", lookups.get(3).hotel().getHotelName());
+        assertEquals(List.of("findAllByIdInOrder"), calls);
+    }
+
+    @Test
+    void batchLookupOfMoreThanTheLimitIsRejectedWithoutAQuery() {
+        List<String> calls = new ArrayList<>();
+        HotelService service = service(hotels(stored(), calls), new ArrayList<>());
+        List<Long> ids = LongStream.rangeClosed(1, HotelService.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> service.getHotelsByIds(ids));
+        assertEquals(HotelService.MAX_BATCH_IDS, service.getHotelsByIds(ids.subList(0, HotelService.MAX_BATCH_IDS)).size());
+        assertEquals(List.of("findAllByIdInOrder"), calls);
+    }
+
+    @Test
+    void batchLookupRejectsANullId() {
+        List<String> calls = new ArrayList<>();
+        HotelService service = service(hotels(stored(), calls), new ArrayList<>());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.getHotelsByIds(Arrays.asList(1L, null)));
+        assertEquals("ids must not contain null", e.getMessage());
+        assertEquals(List.of(), calls);
+    }
+
+    // Only what the tested methods reach; HotelService is field-injected
+    private static HotelService service(HotelRepository hotels, List<Object> published) {
+        ApplicationEventPublisher eventPublisher = published::add;
+        HotelService service = new HotelService();
+        ReflectionTestUtils.setField(service, "hotelRepository", hotels);
+        ReflectionTestUtils.setField(service, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(service, "changeLogService", changeLog());
+        ReflectionTestUtils.setField(service, "hotelSuggestIndex", new HotelSuggestIndex());
+        return service;
+    }
+
+    // A hotel table: patchHotel only matches the stored version, saveAndFlush bumps it
+    private static HotelRepository hotels(Map<Long, Hotel> stored, List<String> calls) {
+        return (HotelRepository) Proxy.newProxyInstance(HotelRepository.class.getClassLoader(),
+                new Class<?>[] {HotelRepository.class}, (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    return switch (method.getName()) {
+                        case "findAllByIdInOrder" -> ((List<?>) args[0]).stream().map(stored::get).toList();
+                        case "findById" -> Optional.ofNullable(stored.get((Long) args[0]));
+                        case "existsById" -> stored.containsKey((Long) args[0]);
+                        case "patchHotel" -> {
+                            Hotel hotel = stored.get((Long) args[0]);
+                            if (hotel == null || !hotel.getVersion().equals(args[2])) {
+                                yield 0;
+                            }
+                            hotel.setVersion(hotel.getVersion() + 1);
+                            yield 1;
+                        }
+                        case "saveAndFlush" -> {
+                            Hotel hotel = (Hotel) args[0];
+                            hotel.setVersion(hotel.getVersion() + 1);
+                            yield hotel;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private static ChangeLogService changeLog() {
+        ChangeLogRepository repository = (ChangeLogRepository) Proxy.newProxyInstance(
+                ChangeLogRepository.class.getClassLoader(), new Class<?>[] {ChangeLogRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> (ChangeLogEntry) args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new ChangeLogService(repository, null, "node-a");
+    }
+
+    private static Map<Long, Hotel> stored(Hotel... hotels) {
+        Map<Long, Hotel> stored = new LinkedHashMap<>();
+        for (Hotel hotel : hotels) {
+            stored.put(hotel.getId(), hotel);
+        }
+        return stored;
+    }
+
+    // In the order given, as a JSON body would be read
+    private static Map<String, Object> fields(Object... namesAndValues) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            fields.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return fields;
+    }
+
+    private static Hotel hotel(Long id, String name, Long version) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setHotelName(name);
+        hotel.setVersion(version);
+        return hotel;
+    }
+}
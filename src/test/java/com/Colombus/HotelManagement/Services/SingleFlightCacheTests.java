@@ -0,0 +1,87 @@
+package com.Colombus.HotelManagement.Services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightCacheTests {
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(ONE_MINUTE, 16);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("pune", () -> {
+                loading.countDown();
+                await(release);
+                return loads.incrementAndGet();
+            })));
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("pune", loads::incrementAndGet)));
+            }
+            Thread.sleep(100); // Let the followers reach the in-flight load
+            release.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.get("pune", loads::incrementAndGet));
+    }
+
+    @Test
+    void expiredResultsAreReloaded() throws InterruptedException {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(TimeUnit.MILLISECONDS.toNanos(20), 16);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("goa", loads::incrementAndGet);
+        Thread.sleep(50);
+        assertEquals(2, cache.get("goa", loads::incrementAndGet));
+    }
+
+    @Test
+    void loadOverlappingAnInvalidationIsNotCached() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(ONE_MINUTE, 16);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("delhi", () -> {
+            cache.invalidateAll(); // A hotel changed while the query ran
+            return loads.incrementAndGet();
+        });
+        assertEquals(2, cache.get("delhi", loads::incrementAndGet));
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(ONE_MINUTE, 16);
+        assertThrows(IllegalStateException.class, () -> cache.get("jaipur", () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertEquals(7, cache.get("jaipur", () -> 7));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
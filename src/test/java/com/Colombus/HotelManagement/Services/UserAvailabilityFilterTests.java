@@ -0,0 +1,144 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Repositories.UserIdentity;
+import com.Colombus.HotelManagement.Repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserAvailabilityFilterTests {
+
+    @Test
+    void everyValueMightBeTakenUntilTheFilterIsBuilt() {
+        UserAvailabilityFilter filter = filter(new AtomicInteger(), List.of(identity(1, "alice", "alice@example.com")));
+
+        assertFalse(filter.isBuilt());
+        assertTrue(filter.mightContainUserName("nobody"));
+        assertTrue(filter.mightContainEmail("nobody@example.com"));
+    }
+
+    @Test
+    void builtFilterIgnoresCaseAndSurroundingWhitespace() {
+        UserAvailabilityFilter filter = filter(new AtomicInteger(), List.of(identity(1, "Alice", "Alice@Example.com")));
+        filter.rebuild();
+
+        assertTrue(filter.mightContainUserName("  ALICE "));
+        assertTrue(filter.mightContainEmail("alice@example.COM"));
+        assertFalse(filter.mightContainUserName("bob"));
+        assertFalse(filter.mightContainEmail("bob@example.com"));
+    }
+
+    @Test
+    void addedUserIsTakenAndRemovedUserIsFreeAgain() {
+        UserAvailabilityFilter filter = filter(new AtomicInteger(), List.of());
+        filter.rebuild();
+        filter.recordAdded("bob", "bob@example.com");
+        assertTrue(filter.mightContainUserName("bob"));
+
+        filter.onUserRemoved(filter.removal("bob", "bob@example.com"));
+
+        assertFalse(filter.mightContainUserName("bob"));
+        assertFalse(filter.mightContainEmail("bob@example.com"));
+    }
+
+    @Test
+    void removalTakenBeforeTheFilterWasBuiltIsIgnored() {
+        UserAvailabilityFilter filter = filter(new AtomicInteger(), List.of(identity(1, "alice", "alice@example.com")));
+        UserAvailabilityFilter.UserRemoved removed = filter.removal("alice", "alice@example.com");
+        filter.rebuild();
+
+        filter.onUserRemoved(removed);
+
+        assertEquals(-1L, removed.generation());
+        assertTrue(filter.mightContainUserName("alice"));
+    }
+
+    @Test
+    void removalFromAnEarlierGenerationIsIgnoredAfterARebuild() {
+        UserAvailabilityFilter filter = filter(new AtomicInteger(), List.of(identity(1, "alice", "alice@example.com")));
+        filter.rebuild();
+        UserAvailabilityFilter.UserRemoved removed = filter.removal("alice", "alice@example.com");
+        filter.rebuild();
+
+        filter.onUserRemoved(removed);
+
+        assertTrue(filter.mightContainUserName("alice"));
+        assertTrue(filter.mightContainEmail("alice@example.com"));
+    }
+
+    @Test
+    void filterIsRebuiltAtTwiceTheSizeOnceMoreUsersThanItsCapacityHaveBeenAdded() throws InterruptedException {
+        AtomicInteger reads = new AtomicInteger();
+        List<UserIdentity> grown = new ArrayList<>();
+        for (int i = 0; i < 10_001; i++) {
+            grown.add(identity(i, "user" + i, "user" + i + "@example.com"));
+        }
+        UserAvailabilityFilter filter = filter(reads, List.of(), grown);
+        filter.rebuild();
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.recordAdded("user" + i, "user" + i + "@example.com");
+        }
+        assertEquals(1, reads.get());
+        filter.recordAdded("user10000", "user10000@example.com");
+
+        // The rebuild runs on a virtual thread; the second build is generation 2
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (filter.removal("x", "x").generation() != 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2L, filter.removal("x", "x").generation());
+        assertEquals(2, reads.get());
+        assertTrue(filter.mightContainUserName("user10000"));
+
+        // Sized for twice the users it was rebuilt with, so as many again fit before the next rebuild
+        for (int i = 10_001; i < 20_002; i++) {
+            filter.recordAdded("user" + i, "user" + i + "@example.com");
+        }
+        assertEquals(2, reads.get());
+    }
+
+    // findAllIdentities answers with the given lists in turn, repeating the last one
+    @SafeVarargs
+    private static UserAvailabilityFilter filter(AtomicInteger reads, List<UserIdentity>... builds) {
+        Queue<List<UserIdentity>> answers = new ConcurrentLinkedQueue<>(List.of(builds));
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllIdentities")) {
+                        reads.incrementAndGet();
+                        return answers.size() > 1 ? answers.poll() : answers.peek();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new UserAvailabilityFilter(users, new SimpleMeterRegistry(), 0.01);
+    }
+
+    private static UserIdentity identity(long id, String userName, String email) {
+        return new UserIdentity() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserName() {
+                return userName;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.Colombus.HotelManagement.Services;
+
+import com.Colombus.HotelManagement.Models.User;
+import com.Colombus.HotelManagement.Repositories.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserServiceTests {
+
+    @Test
+    void namedConstraintMapsToItsFieldWithoutFurtherQueries() {
+        Map<String, String> fields = Map.of(
+                User.UK_USER_NAME, "userName",
+                User.UK_USER_NAME_KEY, "userName",
+                User.UK_EMAIL, "email",
+                User.UK_MOBILE_NUMBER, "mobileNumber",
+                User.UK_CONTACT_NUMBER, "contactNumber");
+        fields.forEach((constraint, field) -> {
+            List<String> probes = new ArrayList<>();
+            UserService service = service(users(Set.of(), probes), failingWith(violation(constraint.toUpperCase(Locale.ROOT))));
+
+            DuplicateFieldException e = assertThrows(DuplicateFieldException.class, () -> service.registerUser(user()));
+            assertEquals(field, e.getField(), constraint);
+            assertEquals(List.of(), probes);
+        });
+    }
+
+    @Test
+    void constraintNameIsAlsoFoundInTheDriverMessage() {
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry 'a@example.com' for key 'users.uk_users_email'"));
+        UserService service = service(users(Set.of(), new ArrayList<>()), failingWith(e));
+
+        assertEquals("email", assertThrows(DuplicateFieldException.class, () -> service.registerUser(user())).getField());
+    }
+
+    @Test
+    void legacyConstraintNameFallsBackToExistsQueriesInFieldOrder() {
+        List<String> probes = new ArrayList<>();
+        UserService service = service(users(Set.of("existsByEmail", "existsByMobileNumber"), probes),
+                failingWith(violation("UK6DV26ODNJX3OSQ8Q4YX1HMPI1")));
+
+        DuplicateFieldException e = assertThrows(DuplicateFieldException.class, () -> service.registerUser(user()));
+        assertEquals("email", e.getField());
+        assertEquals(List.of("existsByUserName", "existsByEmail"), probes);
+    }
+
+    @Test
+    void violationOfNoUniqueFieldIsNotReportedAsADuplicate() {
+        UserService service = service(users(Set.of(), new ArrayList<>()), failingWith(violation("nn_users_city")));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.registerUser(user()));
+        assertFalse(e instanceof DuplicateFieldException);
+        assertTrue(e.getMessage().startsWith("Registration failed"));
+    }
+
+    // Availability filter, change log and replica routing are not reached when the insert fails
+    private static UserService service(UserRepository users, TransactionTemplate transactionTemplate) {
+        return new UserService(users, passwordEncoder(), null, event -> { }, null, transactionTemplate, null);
+    }
+
+    // An existing user, so registration skips the first-admin bootstrap; exists* answer true for the given names
+    private static UserRepository users(Set<String> taken, List<String> probes) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("count")) {
+                        return 1L;
+                    }
+                    if (name.startsWith("exists")) {
+                        probes.add(name);
+                        return taken.contains(name);
+                    }
+                    throw new UnsupportedOperationException(name);
+                });
+    }
+
+    private static TransactionTemplate failingWith(DataIntegrityViolationException e) {
+        return new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                throw e;
+            }
+        };
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), constraint));
+    }
+
+    private static PasswordEncoder passwordEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+
+    private static User user() {
+        User user = User.named("Agent7");
+        user.setPassword("secret");
+        user.setEmail("agent7@example.com");
+        user.setMobileNumber("9820000007");
+        user.setContactNumber("0222000007");
+        return user;
+    }
+}